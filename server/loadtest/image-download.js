@@ -0,0 +1,49 @@
+// k6 부하 테스트 : 이미지 동시 다운로드 처리량
+// 실행 : k6 run -e BASE_URL=http://localhost:8080 -e TOKEN=<access token> -e IMAGE=<저장 파일명> image-download.js
+// 전체 다운로드와 Range 요청을 함께 보내고, 재검증(If-None-Match) 요청은 304 로 본문 없이 끝나는지 확인
+import http from 'k6/http';
+import { check } from 'k6';
+import { Trend } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const TOKEN = __ENV.TOKEN;
+const IMAGE_URL = `${BASE_URL}/api/v1/qnas/image/${__ENV.IMAGE}`;
+
+const downloadDuration = new Trend('image_download_duration', true);
+
+const headers = { Authorization: `Bearer ${TOKEN}` };
+
+export const options = {
+    scenarios: {
+        download: {
+            executor: 'constant-vus',
+            exec: 'download',
+            vus: Number(__ENV.VUS || 200),
+            duration: __ENV.DURATION || '1m',
+        },
+        revalidate: {
+            executor: 'constant-arrival-rate',
+            exec: 'revalidate',
+            rate: Number(__ENV.REVALIDATE_RATE || 100),
+            timeUnit: '1s',
+            duration: __ENV.DURATION || '1m',
+            preAllocatedVUs: 50,
+            maxVUs: 200,
+        },
+    },
+    thresholds: {
+        image_download_duration: ['p(95)<500'],
+    },
+};
+
+export function download() {
+    const range = Math.random() < 0.2;
+    const res = http.get(IMAGE_URL, { headers: range ? { ...headers, Range: 'bytes=0-65535' } : headers });
+    check(res, { 'image 200/206': (r) => r.status === (range ? 206 : 200) });
+    downloadDuration.add(res.timings.duration);
+}
+
+export function revalidate() {
+    const res = http.get(IMAGE_URL, { headers: { ...headers, 'If-None-Match': `"${__ENV.IMAGE}"` } });
+    check(res, { 'image 304': (r) => r.status === 304 && r.body.length === 0 });
+}
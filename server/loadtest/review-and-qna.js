@@ -0,0 +1,59 @@
+// k6 부하 테스트 : 느린 ML 서버 상황에서 /api/v1/reviews/ai 와 /api/v1/qnas 동시 호출
+// 실행 : k6 run -e BASE_URL=http://localhost:8080 -e TOKEN=<access token> review-and-qna.js
+// 플랫폼 스레드(기본)와 virtual-threads 프로필에서 각각 실행 후 qna_duration, http_reqs 비교
+import http from 'k6/http';
+import { check } from 'k6';
+import { Trend } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const TOKEN = __ENV.TOKEN;
+
+const reviewDuration = new Trend('review_duration', true);
+const qnaDuration = new Trend('qna_duration', true);
+
+const params = {
+    headers: {
+        'Content-Type': 'application/json',
+        Authorization: `Bearer ${TOKEN}`,
+    },
+    timeout: '60s',
+};
+
+export const options = {
+    scenarios: {
+        // Tomcat 기본 스레드 수(200)보다 많은 요청이 ML 응답을 기다리도록 구성
+        review: {
+            executor: 'constant-vus',
+            exec: 'review',
+            vus: Number(__ENV.REVIEW_VUS || 400),
+            duration: __ENV.DURATION || '1m',
+        },
+        // ML 호출과 무관한 API 가 함께 느려지는지 확인
+        qna: {
+            executor: 'constant-arrival-rate',
+            exec: 'qna',
+            rate: Number(__ENV.QNA_RATE || 50),
+            timeUnit: '1s',
+            duration: __ENV.DURATION || '1m',
+            preAllocatedVUs: 50,
+            maxVUs: 200,
+        },
+    },
+    thresholds: {
+        qna_duration: ['p(95)<500'],
+    },
+};
+
+export function review() {
+    // 리뷰 캐시 / 동일 요청 병합에 걸리지 않도록 VU, 반복마다 다른 keyword
+    const body = JSON.stringify({ latitude: 37.4, longitude: 127.1, keyword: `판교 맛집 ${__VU}-${__ITER}` });
+    const res = http.post(`${BASE_URL}/api/v1/reviews/ai`, body, params);
+    check(res, { 'review 200': (r) => r.status === 200 });
+    reviewDuration.add(res.timings.duration);
+}
+
+export function qna() {
+    const res = http.get(`${BASE_URL}/api/v1/qnas?page=0&size=10`, params);
+    check(res, { 'qna 200': (r) => r.status === 200 });
+    qnaDuration.add(res.timings.duration);
+}
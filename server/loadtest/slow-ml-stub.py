@@ -0,0 +1,74 @@
+"""
+느린 ML 서버 대역 (부하 테스트용)
+ml.review-url 을 http://localhost:9000/review,
+ml.review-stream-url 을 http://localhost:9000/review/stream 으로 지정하고 실행
+(stream 은 delay 를 식당 수로 나눠 한 줄씩 NDJSON 으로 전송)
+  python3 slow-ml-stub.py --delay 2.0
+"""
+import argparse
+import json
+from http.server import ThreadingHTTPServer, BaseHTTPRequestHandler
+import time
+
+RESPONSE = {
+    "status": "success",
+    "keyword": "판교",
+    "ranked_resturant": [
+        {
+            "store_name": f"store-{i}",
+            "address": "경기 성남시 분당구",
+            "score": 4.5 - i * 0.1,
+            "clustered_terms": [["맛있다", 10 - i], ["친절", 5]],
+        }
+        for i in range(10)
+    ],
+}
+
+
+def handler(delay):
+    body = json.dumps(RESPONSE, ensure_ascii=False).encode("utf-8")
+    lines = [json.dumps(r, ensure_ascii=False).encode("utf-8") + b"\n" for r in RESPONSE["ranked_resturant"]]
+
+    class Handler(BaseHTTPRequestHandler):
+        protocol_version = "HTTP/1.1"
+
+        def do_POST(self):
+            self.rfile.read(int(self.headers.get("Content-Length", 0)))
+            if self.path.endswith("/stream"):
+                self.stream()
+                return
+
+            time.sleep(delay)
+            self.send_response(200)
+            self.send_header("Content-Type", "application/json")
+            self.send_header("Content-Length", str(len(body)))
+            self.end_headers()
+            self.wfile.write(body)
+
+        def stream(self):
+            self.send_response(200)
+            self.send_header("Content-Type", "application/x-ndjson")
+            self.send_header("Transfer-Encoding", "chunked")
+            self.end_headers()
+            for line in lines:
+                time.sleep(delay / len(lines))
+                self.wfile.write(f"{len(line):x}\r\n".encode() + line + b"\r\n")
+                self.wfile.flush()
+            self.wfile.write(b"0\r\n\r\n")
+
+        def log_message(self, format, *args):
+            pass
+
+    return Handler
+
+
+if __name__ == "__main__":
+    parser = argparse.ArgumentParser()
+    parser.add_argument("--port", type=int, default=9000)
+    parser.add_argument("--delay", type=float, default=2.0)
+    args = parser.parse_args()
+
+    server = ThreadingHTTPServer(("0.0.0.0", args.port), handler(args.delay))
+    server.daemon_threads = True
+    server.request_queue_size = 1024
+    server.serve_forever()
@@ -0,0 +1,98 @@
+package com.example.kakao_mlms.client;
+
+import com.example.kakao_mlms.dto.response.ReviewDtoResponse;
+import com.example.kakao_mlms.dto.response.ReviewDtoResponse.Review.ClusteredTerm;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ML 리뷰 응답 디코딩 비교 (./gradlew jmh)
+ * - treeParser   : 기존 구현, byte[] -> String -> JsonObject 트리 -> DTO
+ * - streaming    : MlReviewDecoder, byte[] -> JsonReader -> DTO
+ * - streamingTop10 : MlReviewDecoder, 상위 10개 이후 건너뜀
+ * -prof gc 로 실행하면 요청당 할당량(gc.alloc.rate.norm) 비교 가능
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MlReviewDecoderBenchmark {
+    @Param({"10", "100", "1000"})
+    private int restaurants;
+
+    private byte[] payload;
+
+    @Setup
+    public void setUp() {
+        StringBuilder json = new StringBuilder("{\"status\":\"success\",\"keyword\":\"판교 맛집\",\"ranked_resturant\":[");
+        for (int i = 0; i < restaurants; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"store_name\":\"가게 ").append(i)
+                    .append("\",\"address\":\"경기 성남시 분당구 판교역로 ").append(i)
+                    .append("\",\"score\":").append(5.0 - i * 0.001)
+                    .append(",\"clustered_terms\":[");
+            for (int j = 0; j < 20; j++) {
+                if (j > 0) {
+                    json.append(',');
+                }
+                json.append("[\"키워드").append(j).append("\",").append(100 - j).append(']');
+            }
+            json.append("]}");
+        }
+        json.append("]}");
+        payload = json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public MlReviewResult treeParser() {
+        JsonObject jsonObject = JsonParser.parseString(new String(payload, StandardCharsets.UTF_8)).getAsJsonObject();
+
+        String status = jsonObject.get("status").getAsString();
+        String keyword = jsonObject.get("keyword").getAsString();
+        JsonArray rankedRestaurantArray = jsonObject.getAsJsonArray("ranked_resturant");
+
+        List<ReviewDtoResponse.Review> reviews = new ArrayList<>();
+        for (int i = 0; i < rankedRestaurantArray.size(); i++) {
+            JsonObject restaurantData = rankedRestaurantArray.get(i).getAsJsonObject();
+            List<ClusteredTerm> clusteredTerms = new ArrayList<>();
+            if (restaurantData.get("clustered_terms").isJsonArray()) {
+                JsonArray clusteredTermsArray = restaurantData.getAsJsonArray("clustered_terms");
+                for (int j = 0; j < clusteredTermsArray.size(); j++) {
+                    JsonArray termData = clusteredTermsArray.get(j).getAsJsonArray();
+                    clusteredTerms.add(new ClusteredTerm(termData.get(0).getAsString(), termData.get(1).getAsInt()));
+                }
+            }
+            reviews.add(new ReviewDtoResponse.Review(
+                    restaurantData.get("store_name").getAsString(),
+                    restaurantData.get("address").getAsString(),
+                    restaurantData.get("score").getAsDouble(),
+                    clusteredTerms));
+        }
+        return new MlReviewResult(status, keyword, reviews);
+    }
+
+    @Benchmark
+    public MlReviewResult streaming() throws IOException {
+        return MlReviewDecoder.decode(reader(), 0);
+    }
+
+    @Benchmark
+    public MlReviewResult streamingTop10() throws IOException {
+        return MlReviewDecoder.decode(reader(), 10);
+    }
+
+    private InputStreamReader reader() {
+        return new InputStreamReader(new ByteArrayInputStream(payload), StandardCharsets.UTF_8);
+    }
+}
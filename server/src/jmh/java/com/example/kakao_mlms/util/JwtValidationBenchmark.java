@@ -0,0 +1,73 @@
+package com.example.kakao_mlms.util;
+
+import com.example.kakao_mlms.domain.type.ERole;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Field;
+import java.security.Key;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtUtil.validateToken 처리량 비교 (./gradlew jmh)
+ * - newParserPerCall : 기존 구현, 매 호출마다 JwtParser 생성 + 서명 검증
+ * - sharedParser     : afterPropertiesSet 에서 만든 JwtParser 재사용, 서명 검증은 매번
+ * - validateToken    : 현재 JwtUtil, 같은 토큰은 exp 까지 Claims 캐시 사용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtValidationBenchmark {
+    private Key key;
+    private String token;
+    private JwtUtil jwtUtil;
+    private JwtParser jwtParser;
+
+    @Setup
+    public void setUp() throws Exception {
+        key = Keys.secretKeyFor(SignatureAlgorithm.HS512);
+
+        jwtUtil = new JwtUtil(new SimpleMeterRegistry());
+        setField("secretKey", Encoders.BASE64.encode(key.getEncoded()));
+        setField("accessTokenExpiredPeriod", 3600);
+        setField("refreshTokenExpiredPeriod", 86400);
+        setField("claimsCacheMaxSize", 10000L);
+        jwtUtil.afterPropertiesSet();
+
+        jwtParser = (JwtParser) getField("jwtParser");
+        token = jwtUtil.generateTokens(1L, ERole.USER, "benchmark").getAccessToken();
+    }
+
+    @Benchmark
+    public Claims newParserPerCall() {
+        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+    }
+
+    @Benchmark
+    public Claims sharedParser() {
+        return jwtParser.parseClaimsJws(token).getBody();
+    }
+
+    @Benchmark
+    public Claims validateToken() {
+        return jwtUtil.validateToken(token);
+    }
+
+    private Object getField(String name) throws Exception {
+        Field field = JwtUtil.class.getDeclaredField(name);
+        field.setAccessible(true);
+        return field.get(jwtUtil);
+    }
+
+    private void setField(String name, Object value) throws Exception {
+        Field field = JwtUtil.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(jwtUtil, value);
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.kakao_mlms.cache;
+
+import com.example.kakao_mlms.event.QnaChangedEvent;
+import com.example.kakao_mlms.repository.TableRowEstimator;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 목록 페이지의 전체 개수(total) 를 매번 COUNT 하지 않도록 (테이블, 검색 조건) 기준으로 캐싱
+ * - 조건 없는 목록은 행 수가 estimate-threshold 이상이면 DB 통계 추정치를 사용
+ * - 그 외에는 COUNT 결과를 ttl-seconds 동안 재사용, qnas 는 QnA 변경 커밋 시 즉시 무효화
+ * 이번 요청에서 직접 COUNT 한 값만 exact = true
+ */
+@Slf4j
+@Component
+public class PageCountCache {
+    public static final String QNAS = "qnas";
+    public static final String USERS = "users";
+    private static final String CACHE_NAME = "pageCount";
+
+    private final TableRowEstimator tableRowEstimator;
+    private final Cache<CountKey, Long> cache;
+    private final boolean enabled;
+    private final long estimateThreshold;
+
+    public PageCountCache(TableRowEstimator tableRowEstimator,
+                          MeterRegistry meterRegistry,
+                          @Value("${page.count-cache.enabled:true}") boolean enabled,
+                          @Value("${page.count-cache.max-size:1000}") long maxSize,
+                          @Value("${page.count-cache.ttl-seconds:30}") long ttlSeconds,
+                          @Value("${page.count-cache.estimate-threshold:100000}") long estimateThreshold) {
+        this.tableRowEstimator = tableRowEstimator;
+        this.enabled = enabled;
+        this.estimateThreshold = estimateThreshold;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * @param filter     검색 조건 (equals/hashCode 가 값 기준이어야 함), 조건이 없으면 null
+     * @param exactCount 캐시에 없을 때 실행할 COUNT 쿼리
+     */
+    public PageCount count(String table, Object filter, LongSupplier exactCount) {
+        if (!enabled) {
+            return PageCount.exact(exactCount.getAsLong());
+        }
+
+        if (filter == null) {
+            OptionalLong estimate = tableRowEstimator.estimate(table);
+            if (estimate.isPresent() && estimate.getAsLong() >= estimateThreshold) {
+                return PageCount.estimated(estimate.getAsLong());
+            }
+        }
+
+        CountKey key = new CountKey(table, filter);
+        Long cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return PageCount.estimated(cached);
+        }
+
+        long total = exactCount.getAsLong();
+        cache.put(key, total);
+        return PageCount.exact(total);
+    }
+
+    public void invalidate(String table) {
+        cache.asMap().keySet().removeIf(key -> key.table().equals(table));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onQnaChanged(QnaChangedEvent event) {
+        invalidate(QNAS);
+    }
+
+    private record CountKey(String table, Object filter) {
+    }
+
+    public record PageCount(long total, boolean exact) {
+        static PageCount exact(long total) {
+            return new PageCount(total, true);
+        }
+
+        static PageCount estimated(long total) {
+            return new PageCount(total, false);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.kakao_mlms.cache;
+
+import com.example.kakao_mlms.dto.QnaWithAnswerDto;
+import com.example.kakao_mlms.event.QnaChangedEvent;
+import com.example.kakao_mlms.event.UserProfileChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * QnA 상세 (QnA + 이미지 + 답변) 캐시, 조회자와 무관한 값만 저장 (isMine, 블라인드 접근 검사는 호출 측에서 계산)
+ * 키는 (qnaId, 버전) 이며 QnA/답변 변경이 커밋되면 버전을 올려 이전 항목을 더 이상 조회하지 않음
+ * 조회 시작 시점의 버전으로 저장하므로, 변경 전에 읽기 시작한 요청이 변경 후에 저장해도 최신 버전 키를 덮어쓰지 않음
+ * 작성자 닉네임 변경은 해당 사용자의 QnA/답변을 특정할 수 없으므로 전체 무효화
+ */
+@Slf4j
+@Component
+public class QnaDetailCache {
+    private static final String CACHE_NAME = "qnaDetail";
+
+    private final Cache<DetailKey, QnaWithAnswerDto> cache;
+    // 최근 변경된 QnA 의 버전만 보관, 전체 무효화는 epoch 로 처리
+    private final Cache<Long, Long> versions;
+    private final AtomicLong versionSequence = new AtomicLong();
+    private volatile long epoch = 0L;
+    private final boolean enabled;
+
+    public QnaDetailCache(MeterRegistry meterRegistry,
+                          @Value("${qna.detail-cache.enabled:true}") boolean enabled,
+                          @Value("${qna.detail-cache.max-size:10000}") long maxSize,
+                          @Value("${qna.detail-cache.ttl-seconds:600}") long ttlSeconds) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        // 버전이 만료되어 0 으로 돌아가도 변경 전 버전으로 저장된 항목이 남아 있지 않도록 상세 TTL 의 2배 동안 유지
+        // (변경 직전에 읽기 시작한 요청이 변경 후에 저장한 항목도 그 사이에 만료됨)
+        this.versions = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds * 2))
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public QnaWithAnswerDto get(Long qnaId, Function<Long, QnaWithAnswerDto> loader) {
+        if (!enabled) {
+            return loader.apply(qnaId);
+        }
+        return cache.get(keyOf(qnaId), key -> loader.apply(key.qnaId()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onQnaChanged(QnaChangedEvent event) {
+        if (event.isBulk()) {
+            invalidateAll();
+            return;
+        }
+
+        DetailKey staleKey = keyOf(event.qnaId());
+        versions.put(event.qnaId(), versionSequence.incrementAndGet());
+        cache.invalidate(staleKey);
+        log.debug("QnA detail cache version bump : {}", event.qnaId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onUserProfileChanged(UserProfileChangedEvent event) {
+        invalidateAll();
+        log.debug("QnA detail cache invalidated by user profile change : {}", event.userId());
+    }
+
+    private void invalidateAll() {
+        epoch = versionSequence.incrementAndGet();
+        cache.invalidateAll();
+        // epoch 가 바뀌어 이전 버전 키는 더 이상 조회되지 않음
+        versions.invalidateAll();
+    }
+
+    private DetailKey keyOf(Long qnaId) {
+        Long version = versions.getIfPresent(qnaId);
+        return new DetailKey(qnaId, epoch, version == null ? 0L : version);
+    }
+
+    private record DetailKey(Long qnaId, long epoch, long version) {
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.kakao_mlms.cache;
+
+import com.example.kakao_mlms.dto.request.ReviewDto;
+import com.example.kakao_mlms.util.GeoHashUtil;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * AI 리뷰 결과 캐시 키 : Geohash 격자 + 정규화된 키워드
+ * 좌표는 백그라운드 갱신 시 ML 서버에 다시 요청하기 위해 보관하며 동등성 비교에는 포함하지 않음
+ */
+@Getter
+@ToString
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public final class ReviewCacheKey {
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    @EqualsAndHashCode.Include
+    private final String geohash;
+    @EqualsAndHashCode.Include
+    private final String keyword;
+    private final float latitude;
+    private final float longitude;
+
+    private ReviewCacheKey(String geohash, String keyword, float latitude, float longitude) {
+        this.geohash = geohash;
+        this.keyword = keyword;
+        this.latitude = latitude;
+        this.longitude = longitude;
+    }
+
+    public static ReviewCacheKey of(ReviewDto requestDto, int precision) {
+        return new ReviewCacheKey(
+                GeoHashUtil.encode(requestDto.latitude(), requestDto.longitude(), precision),
+                normalize(requestDto.keyword()),
+                requestDto.latitude(),
+                requestDto.longitude());
+    }
+
+    public ReviewDto toRequestDto() {
+        return new ReviewDto(latitude, longitude, keyword);
+    }
+
+    // "  판교   맛집 " , "판교 맛집" 을 같은 키로 취급
+    static String normalize(String keyword) {
+        if (keyword == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(keyword, Normalizer.Form.NFC);
+        return WHITESPACE.matcher(normalized.strip()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.kakao_mlms.cache;
+
+import com.example.kakao_mlms.client.MlReviewClient;
+import com.example.kakao_mlms.client.MlReviewResult;
+import com.example.kakao_mlms.dto.request.ReviewDto;
+import com.example.kakao_mlms.util.SingleFlight;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * AI 리뷰 결과 캐시 (Geohash 격자 + 키워드 기준)
+ * - refresh-after 가 지난 항목은 기존 값을 바로 반환하고 ML 서버 재조회는 백그라운드에서 수행 (stale-while-revalidate)
+ * - expire-after 가 지난 항목은 제거되어 다음 요청이 ML 서버를 직접 호출
+ * - 재조회 실패 시 기존 값을 유지
+ * - 같은 키의 동시 miss 는 ML 서버를 한 번만 호출하고 결과를 공유 (캐시 비활성화 시에도 적용)
+ * 지표 : cache.gets{cache=reviewResult} (hit/miss), review.cache.saved.latency (hit 로 생략된 ML 호출 시간 합계),
+ *        review.ml.coalesced (진행 중인 호출 결과를 공유받은 요청 수)
+ */
+@Slf4j
+@Component
+public class ReviewResultCache {
+    private static final String CACHE_NAME = "reviewResult";
+
+    private final MlReviewClient mlReviewClient;
+    private final LoadingCache<ReviewCacheKey, CachedReview> cache;
+    private final SingleFlight<ReviewCacheKey, CachedReview> singleFlight = new SingleFlight<>();
+    private final Counter savedLatency;
+    private final boolean enabled;
+    private final int geohashPrecision;
+
+    public ReviewResultCache(MlReviewClient mlReviewClient,
+                             MeterRegistry meterRegistry,
+                             @Value("${review.cache.enabled:true}") boolean enabled,
+                             @Value("${review.cache.geohash-precision:6}") int geohashPrecision,
+                             @Value("${review.cache.max-size:10000}") long maxSize,
+                             @Value("${review.cache.refresh-after-seconds:300}") long refreshAfterSeconds,
+                             @Value("${review.cache.expire-after-seconds:1800}") long expireAfterSeconds) {
+        this.mlReviewClient = mlReviewClient;
+        this.enabled = enabled;
+        this.geohashPrecision = geohashPrecision;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .refreshAfterWrite(Duration.ofSeconds(refreshAfterSeconds))
+                .expireAfterWrite(Duration.ofSeconds(expireAfterSeconds))
+                .recordStats()
+                .build(new ReviewLoader());
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        this.savedLatency = Counter.builder("review.cache.saved.latency")
+                .description("Total ML review latency avoided by cache hits")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        FunctionCounter.builder("review.ml.coalesced", singleFlight, SingleFlight::coalescedCount)
+                .description("ML review requests served by an identical in-flight call")
+                .register(meterRegistry);
+    }
+
+    public Lookup lookup(ReviewDto requestDto) {
+        ReviewCacheKey key = keyOf(requestDto);
+
+        if (enabled) {
+            CachedReview cached = cache.getIfPresent(key);
+            if (cached != null) {
+                savedLatency.increment(cached.loadMillis());
+                return new Lookup(cached.result(), false);
+            }
+        }
+
+        // single-flight 에서 key 가 제거되기 전에 캐시에 넣어야 직후 요청이 다시 ML 서버를 호출하지 않음
+        AtomicBoolean loaded = new AtomicBoolean(false);
+        MlReviewResult result = singleFlight.execute(key, () -> {
+            CachedReview review = load(key, requestDto);
+            loaded.set(true);
+            if (enabled) {
+                cache.put(key, review);
+            }
+            return review;
+        }).result();
+        return new Lookup(result, loaded.get());
+    }
+
+    // 같은 키의 요청은 같은 결과를 받음
+    public ReviewCacheKey keyOf(ReviewDto requestDto) {
+        return ReviewCacheKey.of(requestDto, geohashPrecision);
+    }
+
+    private CachedReview load(ReviewCacheKey key, ReviewDto requestDto) {
+        long start = System.nanoTime();
+        MlReviewResult result = mlReviewClient.getReview(requestDto);
+        log.debug("Review cache load : {}", key);
+        return new CachedReview(result, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    /**
+     * @param loaded 이 요청이 ML 서버에서 새로 조회한 결과인지 (cache hit, 진행 중인 호출을 공유받은 경우 false)
+     */
+    public record Lookup(MlReviewResult result, boolean loaded) {
+    }
+
+    private record CachedReview(MlReviewResult result, long loadMillis) {
+    }
+
+    private class ReviewLoader implements CacheLoader<ReviewCacheKey, CachedReview> {
+        @Override
+        public CachedReview load(ReviewCacheKey key) {
+            return ReviewResultCache.this.load(key, key.toRequestDto());
+        }
+
+        // 백그라운드 갱신은 요청 스레드를 점유하지 않도록 WebClient 응답을 그대로 future 로 연결
+        @Override
+        public CompletableFuture<CachedReview> asyncReload(ReviewCacheKey key, CachedReview oldValue, Executor executor) {
+            return mlReviewClient.fetchReview(key.toRequestDto())
+                    .elapsed()
+                    .map(tuple -> new CachedReview(tuple.getT2(), tuple.getT1()))
+                    .toFuture();
+        }
+    }
+}
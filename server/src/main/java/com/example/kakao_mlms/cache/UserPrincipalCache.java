@@ -0,0 +1,59 @@
+package com.example.kakao_mlms.cache;
+
+import com.example.kakao_mlms.event.UserPrincipalChangedEvent;
+import com.example.kakao_mlms.security.CustomUserDetails;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * JwtFilter 인증 시 매 요청마다 DB 에서 사용자를 다시 읽지 않도록 userId 기준으로 Principal 을 캐싱
+ * 로그아웃, 탈퇴, 권한 변경은 UserPrincipalChangedEvent 로 커밋 후 무효화
+ * (커밋 전에 지우면 동시 요청이 변경 전 row 를 다시 읽어 TTL 동안 캐싱할 수 있음)
+ */
+@Slf4j
+@Component
+public class UserPrincipalCache {
+    private static final String CACHE_NAME = "userPrincipal";
+
+    private final Cache<Long, CustomUserDetails> cache;
+
+    public UserPrincipalCache(@Value("${security.principal-cache.max-size:10000}") long maxSize,
+                              @Value("${security.principal-cache.ttl-seconds:60}") long ttlSeconds,
+                              MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+
+        // cache.gets{result=hit|miss}, cache.evictions 등 hit/miss 지표 등록
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public CustomUserDetails get(Long userId, Function<Long, CustomUserDetails> loader) {
+        return cache.get(userId, loader);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserPrincipalChanged(UserPrincipalChangedEvent event) {
+        evict(event.userId());
+    }
+
+    public void evict(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        log.debug("Principal cache evict : {}", userId);
+        cache.invalidate(userId);
+    }
+}
@@ -0,0 +1,184 @@
+package com.example.kakao_mlms.client;
+
+import com.example.kakao_mlms.dto.request.ReviewDto;
+import com.example.kakao_mlms.dto.response.ReviewDtoResponse;
+import com.example.kakao_mlms.exception.CommonException;
+import com.example.kakao_mlms.exception.ErrorCode;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * ML 리뷰 분석 서버(ml.review-url, ml.review-stream-url) 호출
+ * Bulkhead 가 가장 바깥에서 동시 호출 수를 제한하고, 그 안에서 Circuit Breaker 가 실패/지연을 집계
+ * 모든 실패는 ML_SERVER_* ErrorCode 의 CommonException 으로 변환
+ */
+@Slf4j
+@Component
+public class MlReviewClient {
+    private static final String NAME = "mlReview";
+    private static final String STREAM_NAME = "mlReviewStream";
+
+    private final WebClient mlWebClient;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final CircuitBreaker streamCircuitBreaker;
+    private final Bulkhead streamBulkhead;
+    private final String reviewUrl;
+    private final String reviewStreamUrl;
+    private final int topN;
+    private final int maxResponseBytes;
+
+    public MlReviewClient(WebClient mlWebClient,
+                          CircuitBreakerRegistry mlCircuitBreakerRegistry,
+                          BulkheadRegistry mlBulkheadRegistry,
+                          @Value("${ml.review-url}") String reviewUrl,
+                          @Value("${ml.review-stream-url:}") String reviewStreamUrl,
+                          @Value("${ml.review-top-n:0}") int topN,
+                          @Value("${ml.client.max-response-bytes:1048576}") int maxResponseBytes) {
+        this.mlWebClient = mlWebClient;
+        this.circuitBreaker = mlCircuitBreakerRegistry.circuitBreaker(NAME);
+        this.bulkhead = mlBulkheadRegistry.bulkhead(NAME);
+        this.streamCircuitBreaker = mlCircuitBreakerRegistry.circuitBreaker(STREAM_NAME);
+        this.streamBulkhead = mlBulkheadRegistry.bulkhead(STREAM_NAME);
+        this.reviewUrl = reviewUrl;
+        this.reviewStreamUrl = reviewStreamUrl;
+        this.topN = topN;
+        this.maxResponseBytes = maxResponseBytes;
+    }
+
+    public Mono<MlReviewResult> fetchReview(ReviewDto requestDto) {
+        return mlWebClient.post()
+                .uri(reviewUrl)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of(
+                        "latitude", requestDto.latitude(),
+                        "longitude", requestDto.longitude(),
+                        "keyword", requestDto.keyword()))
+                .retrieve()
+                .bodyToFlux(DataBuffer.class)
+                .as(body -> DataBufferUtils.join(body, maxResponseBytes))
+                .map(this::decode)
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .transformDeferred(BulkheadOperator.of(bulkhead))
+                .onErrorMap(e -> !(e instanceof CommonException), this::translate);
+    }
+
+    /**
+     * ML 서버가 순위를 매기는 대로 한 줄에 식당 하나씩 내려주는 NDJSON 응답을 그대로 전달
+     * ml.review-stream-url 이 없으면 전체 응답을 받은 뒤 식당 단위로 나눠 전달
+     */
+    public Flux<ReviewDtoResponse.Review> streamReview(ReviewDto requestDto) {
+        if (reviewStreamUrl.isBlank()) {
+            return fetchReview(requestDto).flatMapIterable(MlReviewResult::reviews);
+        }
+
+        Flux<ReviewDtoResponse.Review> reviews = mlWebClient.post()
+                .uri(reviewStreamUrl)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .bodyValue(Map.of(
+                        "latitude", requestDto.latitude(),
+                        "longitude", requestDto.longitude(),
+                        "keyword", requestDto.keyword()))
+                .retrieve()
+                // String 으로 받으면 줄 단위로 나뉘어 전달됨
+                .bodyToFlux(String.class)
+                .filter(line -> !line.isBlank())
+                .map(MlReviewClient::decodeLine);
+
+        if (topN > 0) {
+            reviews = reviews.take(topN);
+        }
+
+        return reviews
+                .transformDeferred(CircuitBreakerOperator.of(streamCircuitBreaker))
+                .transformDeferred(BulkheadOperator.of(streamBulkhead))
+                .onErrorMap(e -> !(e instanceof CommonException), this::translate);
+    }
+
+    /**
+     * Servlet 요청 스레드에서 사용, 대기 시간은 ml.client.response-timeout-ms 로 제한됨
+     */
+    public MlReviewResult getReview(ReviewDto requestDto) {
+        return fetchReview(requestDto).block();
+    }
+
+    private Throwable translate(Throwable e) {
+        if (e instanceof CallNotPermittedException) {
+            log.warn("ML Server Circuit Open : {}", e.getMessage());
+            return new CommonException(ErrorCode.ML_SERVER_UNAVAILABLE);
+        }
+        if (e instanceof BulkheadFullException) {
+            log.warn("ML Server Bulkhead Full : {}", e.getMessage());
+            return new CommonException(ErrorCode.ML_SERVER_BUSY);
+        }
+        if (isTimeout(e)) {
+            log.error("ML Server Timeout : {}", e.getMessage());
+            return new CommonException(ErrorCode.ML_SERVER_TIMEOUT);
+        }
+        if (e instanceof WebClientResponseException responseException) {
+            log.error("ML Server Error Response : {}", responseException.getStatusCode());
+            return new CommonException(ErrorCode.ML_SERVER_ERROR);
+        }
+        if (e instanceof DataBufferLimitException) {
+            log.error("ML Server Response Too Large : {}", e.getMessage());
+            return new CommonException(ErrorCode.ML_SERVER_ERROR);
+        }
+
+        log.error("ML Server Request Failed : {}", e.getMessage());
+        return new CommonException(ErrorCode.ML_SERVER_UNAVAILABLE);
+    }
+
+    private static boolean isTimeout(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TimeoutException || cause instanceof io.netty.handler.timeout.TimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static ReviewDtoResponse.Review decodeLine(String line) {
+        try {
+            return MlReviewDecoder.decodeReview(new StringReader(line));
+        } catch (IOException | IllegalStateException | NumberFormatException e) {
+            log.error("ML Server Stream Parse Error : {}", e.getMessage());
+            throw new CommonException(ErrorCode.ML_SERVER_ERROR);
+        }
+    }
+
+    private MlReviewResult decode(DataBuffer buffer) {
+        // asInputStream(true) : 스트림을 닫을 때 buffer 반환
+        try (Reader reader = new InputStreamReader(buffer.asInputStream(true), StandardCharsets.UTF_8)) {
+            return MlReviewDecoder.decode(reader, topN);
+        } catch (IOException | IllegalStateException | NumberFormatException e) {
+            log.error("ML Server Response Parse Error : {}", e.getMessage());
+            throw new CommonException(ErrorCode.ML_SERVER_ERROR);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.kakao_mlms.client;
+
+import com.example.kakao_mlms.dto.response.ReviewDtoResponse;
+import com.example.kakao_mlms.dto.response.ReviewDtoResponse.Review.ClusteredTerm;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ML 리뷰 응답을 JsonReader 로 순차 파싱해 바로 ReviewDtoResponse.Review 로 변환
+ * 응답 전체를 String / JsonObject 트리로 만들지 않음
+ * topN > 0 이면 topN 개 이후의 식당은 객체를 만들지 않고 건너뛰며,
+ * status, keyword 를 이미 읽었다면 나머지 응답은 읽지 않고 종료
+ */
+public final class MlReviewDecoder {
+    private MlReviewDecoder() {
+    }
+
+    public static MlReviewResult decode(Reader source, int topN) throws IOException {
+        JsonReader reader = new JsonReader(source);
+        String status = null;
+        String keyword = null;
+        List<ReviewDtoResponse.Review> reviews = null;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "status" -> status = nextString(reader);
+                case "keyword" -> keyword = nextString(reader);
+                case "ranked_resturant" -> {
+                    reviews = new ArrayList<>(topN > 0 ? topN : 16);
+                    reader.beginArray();
+                    while (reader.hasNext()) {
+                        if (topN > 0 && reviews.size() >= topN) {
+                            if (status != null && keyword != null) {
+                                return new MlReviewResult(status, keyword, reviews);
+                            }
+                            reader.skipValue();
+                        } else {
+                            reviews.add(readReview(reader));
+                        }
+                    }
+                    reader.endArray();
+                }
+                default -> reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        if (status == null || keyword == null || reviews == null) {
+            throw new IllegalStateException("Missing status, keyword or ranked_resturant");
+        }
+        return new MlReviewResult(status, keyword, reviews);
+    }
+
+    /**
+     * 스트리밍 응답(NDJSON) 의 한 줄 = 식당 하나
+     */
+    public static ReviewDtoResponse.Review decodeReview(Reader source) throws IOException {
+        return readReview(new JsonReader(source));
+    }
+
+    private static ReviewDtoResponse.Review readReview(JsonReader reader) throws IOException {
+        String storeName = null;
+        String address = null;
+        double score = 0;
+        List<ClusteredTerm> clusteredTerms = new ArrayList<>();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "store_name" -> storeName = nextString(reader);
+                case "address" -> address = nextString(reader);
+                case "score" -> score = reader.nextDouble();
+                case "clustered_terms" -> {
+                    // 클러스터링된 용어가 없으면 배열이 아닌 값이 내려올 수 있음
+                    if (reader.peek() != JsonToken.BEGIN_ARRAY) {
+                        reader.skipValue();
+                        break;
+                    }
+                    reader.beginArray();
+                    while (reader.hasNext()) {
+                        reader.beginArray();
+                        String term = reader.nextString();
+                        int frequency = reader.nextInt();
+                        while (reader.hasNext()) {
+                            reader.skipValue();
+                        }
+                        reader.endArray();
+                        clusteredTerms.add(new ClusteredTerm(term, frequency));
+                    }
+                    reader.endArray();
+                }
+                default -> reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        if (storeName == null || address == null) {
+            throw new IllegalStateException("Missing store_name or address");
+        }
+        return new ReviewDtoResponse.Review(storeName, address, score, clusteredTerms);
+    }
+
+    private static String nextString(JsonReader reader) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return null;
+        }
+        return reader.nextString();
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.kakao_mlms.client;
+
+import com.example.kakao_mlms.dto.response.ReviewDtoResponse;
+
+import java.util.List;
+
+public record MlReviewResult(
+        String status,
+        String keyword,
+        List<ReviewDtoResponse.Review> reviews
+) {
+}
@@ -0,0 +1,10 @@
+package com.example.kakao_mlms.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+//virtual-threads 프로필에서는 Spring Boot 가 applicationTaskExecutor 를 Virtual Thread 기반으로 구성
+@EnableAsync
+@Configuration
+public class AsyncConfig {
+}
@@ -1,9 +1,24 @@
 package com.example.kakao_mlms.config;
 
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
 @EnableJpaAuditing
 @Configuration
 public class JpaConfig {
+    // Criteria 값은 literal 이 아닌 bind parameter 로, IN 절 파라미터 수는 2의 거듭제곱으로 맞춰
+    // 값이 달라도 같은 SQL / 쿼리 플랜을 재사용 (spring.jpa.properties 로 지정한 값이 우선)
+    @Bean
+    public HibernatePropertiesCustomizer queryPlanReuseCustomizer(
+            @Value("${jpa.query-plan-cache-size:2048}") int queryPlanCacheSize) {
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.CRITERIA_VALUE_HANDLING_MODE, "bind");
+            properties.putIfAbsent(AvailableSettings.IN_CLAUSE_PARAMETER_PADDING, "true");
+            properties.putIfAbsent(AvailableSettings.QUERY_PLAN_CACHE_MAX_SIZE, String.valueOf(queryPlanCacheSize));
+        };
+    }
 }
@@ -0,0 +1,100 @@
+package com.example.kakao_mlms.config;
+
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+/**
+ * ML 서버 호출용 WebClient, Circuit Breaker, Bulkhead 설정
+ * - 커넥션 풀 : 최대 커넥션 수와 풀 대기 시간 제한
+ * - Bulkhead : 엔드포인트별 동시 호출 수 제한, 초과 요청은 대기 없이 바로 실패
+ * - Circuit Breaker : 실패/지연 비율이 임계치를 넘으면 일정 시간 호출하지 않고 바로 실패
+ */
+@Configuration
+public class MlClientConfig {
+    @Value("${ml.client.connect-timeout-ms:1000}")
+    private Integer connectTimeoutMs;
+    @Value("${ml.client.response-timeout-ms:10000}")
+    private Long responseTimeoutMs;
+    @Value("${ml.client.max-connections:50}")
+    private Integer maxConnections;
+    @Value("${ml.client.pending-acquire-timeout-ms:2000}")
+    private Long pendingAcquireTimeoutMs;
+    @Value("${ml.client.max-idle-time-seconds:30}")
+    private Long maxIdleTimeSeconds;
+
+    @Value("${ml.client.bulkhead.max-concurrent-calls:50}")
+    private Integer maxConcurrentCalls;
+
+    @Value("${ml.client.circuit-breaker.failure-rate-threshold:50}")
+    private Float failureRateThreshold;
+    @Value("${ml.client.circuit-breaker.slow-call-duration-ms:5000}")
+    private Long slowCallDurationMs;
+    @Value("${ml.client.circuit-breaker.sliding-window-size:20}")
+    private Integer slidingWindowSize;
+    @Value("${ml.client.circuit-breaker.wait-in-open-seconds:30}")
+    private Long waitInOpenSeconds;
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider mlConnectionProvider() {
+        return ConnectionProvider.builder("ml-client")
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMs))
+                .maxIdleTime(Duration.ofSeconds(maxIdleTimeSeconds))
+                .evictInBackground(Duration.ofSeconds(maxIdleTimeSeconds))
+                .metrics(true)
+                .build();
+    }
+
+    @Bean
+    public WebClient mlWebClient(WebClient.Builder builder, ConnectionProvider mlConnectionProvider) {
+        HttpClient httpClient = HttpClient.create(mlConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+                .responseTimeout(Duration.ofMillis(responseTimeoutMs));
+
+        return builder
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+
+    @Bean
+    public CircuitBreakerRegistry mlCircuitBreakerRegistry(MeterRegistry meterRegistry) {
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(slidingWindowSize / 2)
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallRateThreshold(failureRateThreshold)
+                .slowCallDurationThreshold(Duration.ofMillis(slowCallDurationMs))
+                .waitDurationInOpenState(Duration.ofSeconds(waitInOpenSeconds))
+                .permittedNumberOfCallsInHalfOpenState(3)
+                .build());
+
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+        return registry;
+    }
+
+    @Bean
+    public BulkheadRegistry mlBulkheadRegistry(MeterRegistry meterRegistry) {
+        BulkheadRegistry registry = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(maxConcurrentCalls)
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+
+        TaggedBulkheadMetrics.ofBulkheadRegistry(registry).bindTo(meterRegistry);
+        return registry;
+    }
+}
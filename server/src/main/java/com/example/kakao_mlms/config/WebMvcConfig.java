@@ -1,8 +1,8 @@
 package com.example.kakao_mlms.config;
 
-import com.example.kakao_mlms.constant.Constants;
 import com.example.kakao_mlms.intercepter.UserIdArgumentResolver;
 import com.example.kakao_mlms.intercepter.UserIdInterceptor;
+import com.example.kakao_mlms.security.PublicRouteMatcher;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
@@ -17,6 +17,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class WebMvcConfig implements WebMvcConfigurer {
     private final UserIdArgumentResolver userIdArgumentResolver;
+    private final PublicRouteMatcher publicRouteMatcher;
 
     @Override
     public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
@@ -30,8 +31,8 @@ public class WebMvcConfig implements WebMvcConfigurer {
     @Override
     public void addInterceptors(final InterceptorRegistry registry) {
         //Interceptor 추가
-        registry.addInterceptor(new UserIdInterceptor())
-                .addPathPatterns("/**") //적용하는 경로 추가 (모든 경로)
-                .excludePathPatterns(Constants.NO_NEED_AUTH_URLS); //제외하는 경로 등록
+        //인증 불필요 경로는 Interceptor 내부에서 PublicRouteMatcher 로 제외
+        registry.addInterceptor(new UserIdInterceptor(publicRouteMatcher))
+                .addPathPatterns("/**"); //적용하는 경로 추가 (모든 경로)
     }
 }
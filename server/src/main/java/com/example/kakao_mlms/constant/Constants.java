@@ -4,10 +4,14 @@ public class Constants {
 
     public static final String USER_ID_CLAIM_NAME = "uid";
     public static final String USER_ROLE_CLAIM_NAME = "rol";
+    public static final String TOKEN_TYPE_CLAIM_NAME = "typ";
+    public static final String ACCESS_TOKEN_TYPE = "access";
+    public static final String REFRESH_TOKEN_TYPE = "refresh";
     public static final String BEARER_PREFIX = "Bearer ";
     public static final String AUTHORIZATION_HEADER = "Authorization";
     public static final String[] NO_NEED_AUTH_URLS = {
             "/api/v1/auth/basic", "/api/v1/sign-in", "/api/auth/kakao", "/oauth2/authorization/kakao",
-            "/login/oauth2/code/kakao", "/api/v1/auth/reissue"
+            "/login/oauth2/code/kakao", "/api/v1/auth/reissue",
+            "/swagger-ui", "/swagger-ui.html", "/v3/api-docs"
     };
 }
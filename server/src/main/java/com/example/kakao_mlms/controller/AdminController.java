@@ -2,13 +2,16 @@ package com.example.kakao_mlms.controller;
 
 import com.example.kakao_mlms.annotation.UserId;
 import com.example.kakao_mlms.domain.type.Category;
+import com.example.kakao_mlms.dto.QnaWithAnswerDto;
 import com.example.kakao_mlms.dto.response.AdminUserInfoDto;
+import com.example.kakao_mlms.dto.response.CursorPage;
 import com.example.kakao_mlms.dto.response.QnaDtoResponse;
 import com.example.kakao_mlms.dto.response.QnaDtoWithImagesResponse;
 import com.example.kakao_mlms.exception.ResponseDto;
 import com.example.kakao_mlms.service.AnswerService;
 import com.example.kakao_mlms.service.QnaService;
 import com.example.kakao_mlms.service.UserService;
+import com.example.kakao_mlms.util.ETagUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -26,6 +29,7 @@ import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @Slf4j
 @RestController
@@ -69,12 +73,42 @@ public class AdminController {
             @RequestParam(required = false, name = "title") String title,
             @Parameter(description = "QnA의 카테고리", required = false)
             @RequestParam(required = false, name = "category") Category category,
+            @Parameter(description = "함께 받을 본문 앞부분 글자 수 (0 이면 제외)", required = false)
+            @RequestParam(defaultValue = "0", name = "snippet") int snippet,
             @Parameter(description = "페이징 정보", required = false)
             @PageableDefault(size = 10, sort = "id", direction = Sort.Direction.DESC) Pageable pageable) {
         log.info("notAnswered = {}, title = {}, category = {}, pageable = {}", notAnswered, title, category, pageable);
-        Page<QnaDtoResponse> qnaResponse = qnaService.searchQnas(title, category, notAnswered, pageable)
+        Page<QnaDtoResponse> qnaResponse = qnaService.searchQnas(title, category, notAnswered, snippet, pageable)
                 .map(QnaDtoResponse::from);
-        return ResponseEntity.ok(qnaResponse);
+        return ResponseEntity.ok().eTag(ETagUtil.page(qnaResponse)).body(qnaResponse);
+    }
+
+    @Operation(summary = "모든 QnA 조회 (커서)", description = "최신순으로 QnA를 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "QnA 목록 조회 성공",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = CursorPage.class))),
+    })
+    @GetMapping("/qnas/scroll")
+    public ResponseEntity<CursorPage<QnaDtoResponse>> scrollAllQnas(
+            @Parameter(description = "응답되지 않은 QnA만 필터링 여부", required = false)
+            @RequestParam(required = false, name = "notAnswered") Boolean notAnswered,
+            @Parameter(description = "검색할 QnA 제목", required = false)
+            @RequestParam(required = false, name = "title") String title,
+            @Parameter(description = "QnA의 카테고리", required = false)
+            @RequestParam(required = false, name = "category") Category category,
+            @Parameter(description = "이전 응답의 nextCursor, 첫 페이지는 생략", required = false)
+            @RequestParam(required = false, name = "cursor") String cursor,
+            @Parameter(description = "페이지 크기 (1~50)", required = false)
+            @RequestParam(defaultValue = "10", name = "size") int size,
+            @Parameter(description = "전체 개수 포함 여부", required = false)
+            @RequestParam(defaultValue = "false", name = "withTotal") boolean withTotal,
+            @Parameter(description = "함께 받을 본문 앞부분 글자 수 (0 이면 제외)", required = false)
+            @RequestParam(defaultValue = "0", name = "snippet") int snippet) {
+        CursorPage<QnaDtoResponse> qnaResponse = qnaService
+                .scrollQnas(title, category, notAnswered, cursor, Math.min(Math.max(size, 1), 50), withTotal, snippet)
+                .map(QnaDtoResponse::from);
+        return ResponseEntity.ok().eTag(ETagUtil.of(qnaResponse)).body(qnaResponse);
     }
 
     @Operation(summary = "특정 QnA 조회", description = "특정 QnA를 ID로 조회합니다.")
@@ -87,10 +121,18 @@ public class AdminController {
     public ResponseEntity<?> getQna(
             @Parameter(hidden = true) @UserId Long id,
             @Parameter(description = "QnA ID", required = true)
-            @PathVariable("qnaId") Long qnaId) {
+            @PathVariable("qnaId") Long qnaId,
+            @Parameter(hidden = true) WebRequest webRequest) {
+        // 변경이 없으면 version 만 조회하고 304 로 응답
+        String eTag = qnaService.getQnaDetailETag(qnaId, id, true);
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
+        QnaWithAnswerDto qnaDetail = qnaService.getQnaDetail(qnaId, id, true);
         QnaDtoWithImagesResponse qnaWithImagesResponse =
-                QnaDtoWithImagesResponse.from(qnaService.getQnaWithImages(qnaId), answerService.getAnswer(qnaId), id);
-        return ResponseEntity.ok(qnaWithImagesResponse);
+                QnaDtoWithImagesResponse.from(qnaDetail.qna(), qnaDetail.answer(), id);
+        return ResponseEntity.ok().eTag(qnaDetail.eTag(id)).body(qnaWithImagesResponse);
     }
 
     @Operation(summary = "QnA에 답변 추가", description = "특정 QnA에 답변을 추가합니다.")
@@ -5,24 +5,28 @@ import com.example.kakao_mlms.domain.User;
 import com.example.kakao_mlms.domain.type.Category;
 import com.example.kakao_mlms.dto.ImageDto;
 import com.example.kakao_mlms.dto.QnaDto;
+import com.example.kakao_mlms.dto.QnaWithAnswerDto;
 import com.example.kakao_mlms.dto.UserDto;
 import com.example.kakao_mlms.dto.request.QnaRequestDto;
+import com.example.kakao_mlms.dto.response.CursorPage;
 import com.example.kakao_mlms.dto.response.QnaDtoResponse;
 import com.example.kakao_mlms.dto.response.QnaDtoWithImagesResponse;
 import com.example.kakao_mlms.exception.ResponseDto;
-import com.example.kakao_mlms.service.AnswerService;
 import com.example.kakao_mlms.service.ImageService;
 import com.example.kakao_mlms.service.QnaService;
 import com.example.kakao_mlms.service.UserService;
+import com.example.kakao_mlms.util.ETagUtil;
+import com.example.kakao_mlms.util.FileSender;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -30,9 +34,10 @@ import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.net.MalformedURLException;
+import java.io.IOException;
 import java.util.List;
 
 @Slf4j
@@ -45,7 +50,7 @@ public class QnaController {
     private final UserService userService;
     private final QnaService qnaService;
     private final ImageService imageService;
-    private final AnswerService answerService;
+    private final FileSender fileSender;
 
     @Operation(summary = "QnA 작성", description = "새로운 QnA를 작성합니다.")
     @ApiResponse(responseCode = "201", description = "QnA 작성 성공", content = @Content)
@@ -70,11 +75,32 @@ public class QnaController {
             @RequestParam(value = "mine", defaultValue = "false") Boolean mine,
             @RequestParam(required = false, value = "title") String title,
             @RequestParam(required = false, value = "category") Category category,
+            @RequestParam(value = "snippet", defaultValue = "0") int snippet,
             @PageableDefault(size = 10, sort = "id", direction = Sort.Direction.DESC) Pageable pageable) {
         log.info("id = {}, title = {}, category = {}, pageable = {}", id, title, category, pageable);
-        Page<QnaDtoResponse> qnaResponse = qnaService.searchQnasByUser(title, id, category, mine, pageable)
+        Page<QnaDtoResponse> qnaResponse = qnaService.searchQnasByUser(title, id, category, mine, snippet, pageable)
                 .map(QnaDtoResponse::from);
-        return ResponseEntity.ok(qnaResponse);
+        return ResponseEntity.ok().eTag(ETagUtil.page(qnaResponse)).body(qnaResponse);
+    }
+
+    @Operation(summary = "QnA 목록 조회 (커서)", description = "최신순으로 QnA 목록을 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달합니다.")
+    @ApiResponse(responseCode = "200", description = "QnA 목록 조회 성공",
+            content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = CursorPage.class)))
+    @GetMapping("/scroll")
+    public ResponseEntity<CursorPage<QnaDtoResponse>> scrollQnaList(
+            @Parameter(hidden = true) @UserId Long id,
+            @RequestParam(value = "mine", defaultValue = "false") Boolean mine,
+            @RequestParam(required = false, value = "title") String title,
+            @RequestParam(required = false, value = "category") Category category,
+            @RequestParam(required = false, value = "cursor") String cursor,
+            @RequestParam(value = "size", defaultValue = "10") int size,
+            @RequestParam(value = "withTotal", defaultValue = "false") boolean withTotal,
+            @RequestParam(value = "snippet", defaultValue = "0") int snippet) {
+        CursorPage<QnaDtoResponse> qnaResponse = qnaService
+                .scrollQnasByUser(title, id, category, mine, cursor, Math.min(Math.max(size, 1), 50), withTotal, snippet)
+                .map(QnaDtoResponse::from);
+        return ResponseEntity.ok().eTag(ETagUtil.of(qnaResponse)).body(qnaResponse);
     }
 
     @Operation(summary = "특정 QnA 조회", description = "특정 QnA를 ID로 조회합니다.")
@@ -85,24 +111,30 @@ public class QnaController {
     public ResponseEntity<?> getQna(
             @Parameter(hidden = true) @UserId Long id,
             @Parameter(description = "QnA ID", required = true)
-            @PathVariable("qnaId") Long qnaId) {
-        QnaDtoWithImagesResponse qnaWithImagesResponse =
-                QnaDtoWithImagesResponse.from(qnaService.getQnaWithImages(qnaId), answerService.getAnswer(qnaId), id);
-        if (qnaWithImagesResponse.isBlind() && qnaWithImagesResponse.user().id().longValue() != id.longValue()) {
-            return ResponseEntity.badRequest().build();
+            @PathVariable("qnaId") Long qnaId,
+            @Parameter(hidden = true) WebRequest webRequest) {
+        // 변경이 없으면 version 만 조회하고 304 로 응답
+        String eTag = qnaService.getQnaDetailETag(qnaId, id, false);
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return null;
         }
-        return ResponseEntity.ok(qnaWithImagesResponse);
+
+        QnaWithAnswerDto qnaDetail = qnaService.getQnaDetail(qnaId, id, false);
+        QnaDtoWithImagesResponse qnaWithImagesResponse =
+                QnaDtoWithImagesResponse.from(qnaDetail.qna(), qnaDetail.answer(), id);
+        return ResponseEntity.ok().eTag(qnaDetail.eTag(id)).body(qnaWithImagesResponse);
     }
 
-    @Operation(summary = "이미지 다운로드", description = "저장된 이미지를 다운로드합니다.")
+    @Operation(summary = "이미지 다운로드", description = "저장된 이미지를 다운로드합니다. Range, If-None-Match, If-Modified-Since 를 지원합니다.")
     @ApiResponse(responseCode = "200", description = "이미지 다운로드 성공",
             content = @Content(mediaType = "application/octet-stream"))
     @GetMapping("/image/{filename}")
-    public Resource downloadImage(
+    public void downloadImage(
             @Parameter(description = "파일명", required = true)
-            @PathVariable("filename") String storeFilename) throws MalformedURLException {
-        log.info("storeFilename = {}", storeFilename);
-        return imageService.downloadImage(storeFilename);
+            @PathVariable("filename") String storeFilename,
+            @Parameter(hidden = true) HttpServletRequest request,
+            @Parameter(hidden = true) HttpServletResponse response) throws IOException {
+        fileSender.send(imageService.resolveImage(storeFilename), request, response);
     }
 
     @Operation(summary = "QnA 수정", description = "특정 QnA를 수정합니다.")
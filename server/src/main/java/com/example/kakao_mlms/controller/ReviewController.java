@@ -1,20 +1,33 @@
 package com.example.kakao_mlms.controller;
 
 import com.example.kakao_mlms.annotation.UserId;
+import com.example.kakao_mlms.dto.request.ReviewBatchDto;
 import com.example.kakao_mlms.dto.request.ReviewDto;
+import com.example.kakao_mlms.exception.CommonException;
 import com.example.kakao_mlms.exception.ResponseDto;
+import com.example.kakao_mlms.service.ReviewHistoryService;
 import com.example.kakao_mlms.service.ReviewService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
 
 @Slf4j
 @RestController
@@ -23,13 +36,55 @@ import org.springframework.web.bind.annotation.RestController;
 @SecurityRequirement(name = "bearerAuth")
 public class ReviewController {
     private final ReviewService reviewService;
+    private final ReviewHistoryService reviewHistoryService;
 
     @Operation(summary = "AI 리뷰 결과 가져오기", description = "사용자 ID와 함께 AI 리뷰 결과를 가져옵니다.")
     @ApiResponse(responseCode = "200", description = "리뷰 결과 성공적으로 반환됨", content = @io.swagger.v3.oas.annotations.media.Content)
     @PostMapping("/ai")
     public ResponseDto<?> getReviewResult(
             @Parameter(hidden = true) @UserId Long id,
-            @RequestBody ReviewDto requestDto) {
+            @RequestBody @Valid ReviewDto requestDto) {
         return ResponseDto.ok(reviewService.getReviewResult(id, requestDto));
     }
+
+    @Operation(summary = "AI 리뷰 결과 여러 건 가져오기", description = "여러 키워드/위치의 AI 리뷰 결과를 요청 순서대로 가져옵니다. 실패한 항목은 항목별 error 로 반환됩니다.")
+    @ApiResponse(responseCode = "200", description = "항목별 리뷰 결과 반환됨", content = @io.swagger.v3.oas.annotations.media.Content)
+    @PostMapping("/ai/batch")
+    public ResponseDto<?> getReviewResults(
+            @Parameter(hidden = true) @UserId Long id,
+            @RequestBody @Valid ReviewBatchDto requestDto) {
+        return ResponseDto.ok(reviewService.getReviewResults(id, requestDto.queries()));
+    }
+
+    @Operation(summary = "AI 리뷰 결과 스트리밍", description = "순위가 매겨진 식당을 Server-Sent Events 로 하나씩 전달합니다. (review : 식당, done : 종료, error : 실패)")
+    @ApiResponse(responseCode = "200", description = "리뷰 결과 스트림", content = @io.swagger.v3.oas.annotations.media.Content)
+    @GetMapping(value = "/ai/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<?>> streamReviewResult(
+            @Parameter(hidden = true) @UserId Long id,
+            @ModelAttribute @Valid ReviewDto requestDto) {
+        return reviewService.streamReviewResult(id, requestDto)
+                .<ServerSentEvent<?>>map(review -> ServerSentEvent.builder(review).event("review").build())
+                .concatWithValues(ServerSentEvent.builder().event("done").build())
+                .onErrorResume(CommonException.class, e -> Flux.just(
+                        ServerSentEvent.builder(ResponseDto.fail(e)).event("error").build()));
+    }
+
+    @Operation(summary = "AI 리뷰 조회 기록", description = "사용자의 AI 리뷰 조회 기록을 최신순으로 가져옵니다.")
+    @ApiResponse(responseCode = "200", description = "조회 기록 반환됨", content = @io.swagger.v3.oas.annotations.media.Content)
+    @GetMapping("/history")
+    public ResponseDto<?> getReviewHistories(
+            @Parameter(hidden = true) @UserId Long id,
+            @PageableDefault(size = 10, sort = "createdDate", direction = Sort.Direction.DESC) Pageable pageable) {
+        return ResponseDto.ok(reviewHistoryService.getHistories(id, pageable));
+    }
+
+    @Operation(summary = "근처 인기 키워드", description = "주변 지역에서 집계된 리뷰 키워드를 빈도순으로 가져옵니다.")
+    @ApiResponse(responseCode = "200", description = "인기 키워드 반환됨", content = @io.swagger.v3.oas.annotations.media.Content)
+    @GetMapping("/terms/popular")
+    public ResponseDto<?> getPopularTerms(
+            @RequestParam("latitude") float latitude,
+            @RequestParam("longitude") float longitude,
+            @RequestParam(value = "size", defaultValue = "10") int size) {
+        return ResponseDto.ok(reviewHistoryService.getPopularTerms(latitude, longitude, Math.min(Math.max(size, 1), 50)));
+    }
 }
@@ -9,7 +9,9 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
+import java.util.List;
 import java.util.Objects;
+import java.util.stream.Stream;
 
 @Getter
 @Entity
@@ -31,6 +33,13 @@ public class Image {
     @Column(name = "extension", nullable = false)
     private Extension extension;
 
+    // 변환본 파일명, 생성 전이거나 원본이 변환 크기보다 작으면 null
+    @Column(name = "thumbnail_name")
+    private String thumbnailName;
+
+    @Column(name = "medium_name")
+    private String mediumName;
+
     @ManyToOne(optional = false)
     @JoinColumn(name = "qna_id", foreignKey = @ForeignKey(name = "fk_image_qna_id"))
     private Qna qna;
@@ -43,6 +52,18 @@ public class Image {
         this.qna = qna;
     }
 
+    public void updateVariants(String thumbnailName, String mediumName) {
+        this.thumbnailName = thumbnailName;
+        this.mediumName = mediumName;
+    }
+
+    // 원본과 변환본 저장 파일명
+    public List<String> getStoreFileNames() {
+        return Stream.of(uuidName, thumbnailName, mediumName)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
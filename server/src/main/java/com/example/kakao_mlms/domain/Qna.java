@@ -4,6 +4,7 @@ import com.example.kakao_mlms.domain.type.Category;
 import com.example.kakao_mlms.dto.ImageDto;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
@@ -15,7 +16,11 @@ import java.util.Objects;
 @ToString
 @Getter
 @Entity
-@Table(name = "qnas")
+@Table(name = "qnas", indexes = {
+        // 커서 페이지네이션 (조건 + id 내림차순)
+        @Index(name = "idx_qna_user_id_id", columnList = "user_id, id"),
+        @Index(name = "idx_qna_is_answer_id", columnList = "is_answer, id")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
 public class Qna {
@@ -43,6 +48,12 @@ public class Qna {
     @Column(name = "is_blind", nullable = false)
     private Boolean isBlind;
 
+    // 상세 조회 ETag 에 사용, 이미지만 바뀐 수정도 반영되도록 수정 시 강제 증가 (QnaRepository.findForModifyById)
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @ManyToOne(optional = false)
     @JoinColumn(name = "user_id", foreignKey = @ForeignKey(name = "fk_qna_user_id"))
     private User user;
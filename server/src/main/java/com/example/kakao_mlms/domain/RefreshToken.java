@@ -0,0 +1,97 @@
+package com.example.kakao_mlms.domain;
+
+import com.example.kakao_mlms.domain.type.ERole;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.domain.Persistable;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 발급된 Refresh Token (원문 대신 SHA-256 해시 저장)
+ * 재발급 시 같은 family 로 새 토큰을 이어서 발급하고, 이전 토큰은 rotatedAt 기록
+ */
+@Getter
+@Entity
+@Table(name = "refresh_tokens", indexes = {
+        @Index(name = "idx_refresh_token_user_id", columnList = "user_id"),
+        @Index(name = "idx_refresh_token_family_id", columnList = "family_id")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(AuditingEntityListener.class)
+public class RefreshToken implements Persistable<String> {
+    // jti
+    @Id
+    @Column(name = "id", length = 36)
+    private String id;
+
+    @Column(name = "family_id", nullable = false, length = 36)
+    private String familyId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "role", nullable = false)
+    private ERole role;
+
+    @Column(name = "token_hash", nullable = false, length = 64)
+    private String tokenHash;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "rotated_at")
+    private LocalDateTime rotatedAt;
+
+    @Column(name = "revoked", nullable = false)
+    private Boolean revoked;
+
+    @CreatedDate
+    @Column(name = "created_date", nullable = false, updatable = false)
+    private LocalDateTime createdDate;
+
+    // id 를 직접 할당하므로 save 시 select 없이 바로 insert 되도록 처리
+    @Transient
+    private boolean isNew = true;
+
+    @Builder
+    private RefreshToken(String id, String familyId, Long userId, ERole role, String tokenHash, LocalDateTime expiresAt) {
+        this.id = id;
+        this.familyId = familyId;
+        this.userId = userId;
+        this.role = role;
+        this.tokenHash = tokenHash;
+        this.expiresAt = expiresAt;
+        this.revoked = false;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof RefreshToken refreshToken)) return false;
+        return Objects.nonNull(this.getId()) && Objects.equals(this.getId(), refreshToken.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(this.getId());
+    }
+}
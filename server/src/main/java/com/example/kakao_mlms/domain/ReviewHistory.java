@@ -0,0 +1,74 @@
+package com.example.kakao_mlms.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 사용자별 AI 리뷰 조회 기록
+ * 결과는 식당 이름/주소/점수만 JSON 배열로 압축 저장 (clustered_terms 는 ReviewTermStat 으로 집계)
+ */
+@Getter
+@Entity
+@Table(name = "review_histories", indexes = {
+        @Index(name = "idx_review_history_user_id_created_date", columnList = "user_id, created_date")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(AuditingEntityListener.class)
+public class ReviewHistory {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "user_id", foreignKey = @ForeignKey(name = "fk_review_history_user_id"))
+    private User user;
+
+    @Column(name = "keyword", nullable = false)
+    private String keyword;
+
+    @Column(name = "geohash", nullable = false, length = 12)
+    private String geohash;
+
+    @Column(name = "latitude", nullable = false)
+    private Float latitude;
+
+    @Column(name = "longitude", nullable = false)
+    private Float longitude;
+
+    @Column(name = "results", nullable = false, columnDefinition = "TEXT")
+    private String results;
+
+    @CreatedDate
+    @Column(name = "created_date", nullable = false, updatable = false)
+    private LocalDateTime createdDate;
+
+    @Builder
+    private ReviewHistory(User user, String keyword, String geohash, Float latitude, Float longitude, String results) {
+        this.user = user;
+        this.keyword = keyword;
+        this.geohash = geohash;
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.results = results;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ReviewHistory reviewHistory)) return false;
+        return Objects.nonNull(this.getId()) && Objects.equals(this.getId(), reviewHistory.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(this.getId());
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.kakao_mlms.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Geohash 격자별 ClusteredTerm 빈도 합계
+ * AI 리뷰 조회가 기록될 때마다 증가시키며, "근처 인기 키워드" 는 이 테이블만으로 조회
+ */
+@Getter
+@Entity
+@Table(name = "review_term_stats", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_review_term_stat_geohash_term", columnNames = {"geohash", "term"})
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(AuditingEntityListener.class)
+public class ReviewTermStat {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "geohash", nullable = false, length = 12)
+    private String geohash;
+
+    @Column(name = "term", nullable = false)
+    private String term;
+
+    @Column(name = "frequency", nullable = false)
+    private Long frequency;
+
+    @LastModifiedDate
+    @Column(name = "modified_date", nullable = false)
+    private LocalDateTime modifiedDate;
+
+    @Builder
+    private ReviewTermStat(String geohash, String term, Long frequency) {
+        this.geohash = geohash;
+        this.term = term;
+        this.frequency = frequency;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ReviewTermStat reviewTermStat)) return false;
+        return Objects.nonNull(this.getId()) && Objects.equals(this.getId(), reviewTermStat.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(this.getId());
+    }
+}
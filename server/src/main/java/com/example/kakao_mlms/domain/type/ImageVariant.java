@@ -0,0 +1,23 @@
+package com.example.kakao_mlms.domain.type;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 업로드 이미지 변환본 (고정 너비, 원본 비율 유지)
+ * 파일명은 원본 저장 파일명에 suffix 를 붙임 : {uuid}_thumb.jpg
+ */
+@Getter
+@AllArgsConstructor
+public enum ImageVariant {
+    THUMBNAIL("thumb", 320), MEDIUM("medium", 1024);
+
+    private final String suffix;
+    private final int width;
+
+    public String fileNameOf(String storeFileName, String extension) {
+        int dot = storeFileName.lastIndexOf('.');
+        String baseName = dot < 0 ? storeFileName : storeFileName.substring(0, dot);
+        return baseName + "_" + suffix + "." + extension;
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.kakao_mlms.dto;
+
+import com.example.kakao_mlms.cache.PageCountCache.PageCount;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * totalElements 가 정확한 값인지(totalExact) 함께 전달하는 Page
+ * 추정치/캐시 값이면 totalExact = false
+ */
+public class CountedPage<T> extends PageImpl<T> {
+    private final boolean totalExact;
+
+    public CountedPage(List<T> content, Pageable pageable, long total, boolean totalExact) {
+        super(content, pageable, total);
+        this.totalExact = totalExact;
+    }
+
+    /**
+     * 첫 페이지가 다 차지 않았거나 마지막 페이지면 COUNT 없이 total 을 계산하고, 아니면 counter 사용
+     * 추정치가 현재 페이지보다 작으면 현재 페이지 끝을 total 로 사용
+     */
+    public static <T> CountedPage<T> of(List<T> content, Pageable pageable, Supplier<PageCount> counter) {
+        if (pageable.isUnpaged()) {
+            return new CountedPage<>(content, pageable, content.size(), true);
+        }
+
+        long offset = pageable.getOffset();
+        if (content.size() < pageable.getPageSize() && (offset == 0 || !content.isEmpty())) {
+            return new CountedPage<>(content, pageable, offset + content.size(), true);
+        }
+
+        PageCount count = counter.get();
+        return new CountedPage<>(content, pageable, Math.max(count.total(), offset + content.size()), count.exact());
+    }
+
+    public boolean isTotalExact() {
+        return totalExact;
+    }
+
+    @Override
+    public <U> CountedPage<U> map(Function<? super T, ? extends U> converter) {
+        return new CountedPage<>(getConvertedContent(converter), getPageable(), getTotalElements(), totalExact);
+    }
+}
@@ -13,6 +13,8 @@ public record ImageDto(
         String originName,
         String uuidName,
         Extension extension,
+        String thumbnailName,
+        String mediumName,
         QnaDto qna
 ) {
   public static ImageDto from(Image image) {
@@ -21,6 +23,8 @@ public record ImageDto(
             image.getOriginName(),
             image.getUuidName(),
             image.getExtension(),
+            image.getThumbnailName(),
+            image.getMediumName(),
             QnaDto.from(image.getQna())
     );
   }
@@ -30,6 +34,6 @@ public record ImageDto(
   }
 
   public static ImageDto of(String originName, String uuidName, Extension extension) {
-    return new ImageDto(null, originName, uuidName, extension, null);
+    return new ImageDto(null, originName, uuidName, extension, null, null, null);
   }
 }
\ No newline at end of file
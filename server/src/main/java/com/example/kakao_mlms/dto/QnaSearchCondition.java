@@ -0,0 +1,26 @@
+package com.example.kakao_mlms.dto;
+
+import com.example.kakao_mlms.domain.type.Category;
+import lombok.Builder;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDateTime;
+
+/**
+ * QnA 목록 검색 조건, null 인 필드는 조건에서 제외
+ */
+@Builder
+public record QnaSearchCondition(
+        String title,
+        Category category,
+        Boolean isAnswer,
+        Boolean isBlind,
+        Long userId,
+        LocalDateTime createdFrom,
+        LocalDateTime createdTo
+) {
+    public boolean isEmpty() {
+        return !StringUtils.hasText(title) && category == null && isAnswer == null && isBlind == null
+                && userId == null && createdFrom == null && createdTo == null;
+    }
+}
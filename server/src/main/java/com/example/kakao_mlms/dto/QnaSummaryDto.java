@@ -0,0 +1,24 @@
+package com.example.kakao_mlms.dto;
+
+import com.example.kakao_mlms.domain.type.Category;
+
+import java.time.LocalDateTime;
+
+/**
+ * QnA 목록 행, qnas 와 users 를 join 한 한 번의 쿼리로 필요한 컬럼만 조회
+ * content 는 조회하지 않고, 요청한 경우에만 DB 에서 앞부분을 잘라 snippet 으로 전달 (그 외 null)
+ * Criteria construct 로 생성되므로 컴포넌트 순서를 바꾸면 QnaRepositoryImpl 의 select 도 함께 바꿔야 함
+ */
+public record QnaSummaryDto(
+        Long id,
+        String title,
+        Category category,
+        LocalDateTime createdDate,
+        Boolean isAnswer,
+        Boolean isBlind,
+        Long userId,
+        String userSerialId,
+        String userNickname,
+        String snippet
+) {
+}
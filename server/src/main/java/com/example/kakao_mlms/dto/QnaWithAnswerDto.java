@@ -0,0 +1,20 @@
+package com.example.kakao_mlms.dto;
+
+import com.example.kakao_mlms.util.ETagUtil;
+
+import java.util.Objects;
+
+/**
+ * QnA 상세 (이미지, 작성자 포함) + 답변 (없으면 null)
+ * qnaVersion, answerVersion 은 ETag 생성용 (답변이 없으면 answerVersion 은 null)
+ */
+public record QnaWithAnswerDto(
+        QnaDtoWithImages qna,
+        AnswerDto answer,
+        Long qnaVersion,
+        Long answerVersion
+) {
+    public String eTag(Long viewerId) {
+        return ETagUtil.qnaDetail(qna.id(), qnaVersion, answerVersion, Objects.equals(qna.user().id(), viewerId));
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.kakao_mlms.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+public record ReviewBatchDto(
+        @JsonProperty("queries")
+        @NotEmpty
+        List<ReviewDto> queries
+) {
+}
@@ -1,20 +1,24 @@
 package com.example.kakao_mlms.dto.request;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
-import jakarta.validation.constraints.Size;
 
 public record ReviewDto(
         @JsonProperty("latitude")
         @NotNull
+        @DecimalMin("-90") @DecimalMax("90")
         float latitude,
 
         @JsonProperty("longitude")
         @NotNull
+        @DecimalMin("-180") @DecimalMax("180")
         float longitude,
 
         @JsonProperty("keyword")
-        @NotNull
+        @NotBlank
         String keyword
 ) {
 }
@@ -0,0 +1,21 @@
+package com.example.kakao_mlms.dto.response;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 목록 응답
+ * nextCursor 를 다음 요청의 cursor 로 전달, 마지막 페이지면 null
+ * totalElements, totalExact 는 withTotal=true 로 요청한 경우에만 채워짐 (추정치/캐시 값이면 totalExact = false)
+ */
+public record CursorPage<T>(
+        List<T> content,
+        String nextCursor,
+        boolean hasNext,
+        Long totalElements,
+        Boolean totalExact
+) {
+    public <R> CursorPage<R> map(Function<? super T, ? extends R> mapper) {
+        return new CursorPage<>(content.stream().<R>map(mapper).toList(), nextCursor, hasNext, totalElements, totalExact);
+    }
+}
@@ -1,27 +1,32 @@
 package com.example.kakao_mlms.dto.response;
 
-import com.example.kakao_mlms.constant.Constants;
 import com.example.kakao_mlms.domain.type.Extension;
 import com.example.kakao_mlms.dto.ImageDto;
-import lombok.extern.slf4j.Slf4j;
 
-import java.io.File;
-import java.io.FileInputStream;
-import java.io.IOException;
-import java.util.Base64;
-
-@Slf4j
+/**
+ * url : 원본, thumbnailUrl : 목록/미리보기용 (너비 320), mediumUrl : 상세 화면용 (너비 1024)
+ * 변환본이 아직 없거나 원본이 변환 크기보다 작으면 더 큰 변환본 또는 원본 URL 을 사용
+ */
 public record ImageResponse(
         String originName,
         String uuidName,
-        Extension extension
+        Extension extension,
+        String url,
+        String thumbnailUrl,
+        String mediumUrl
 ) {
+    private static final String IMAGE_URL_PREFIX = "/api/v1/qnas/image/";
+
     public static ImageResponse from(ImageDto imageDto) {
+        String url = IMAGE_URL_PREFIX + imageDto.uuidName();
+        String mediumUrl = imageDto.mediumName() == null ? url : IMAGE_URL_PREFIX + imageDto.mediumName();
         return new ImageResponse(
                 imageDto.originName(),
                 imageDto.uuidName(),
-                imageDto.extension()
+                imageDto.extension(),
+                url,
+                imageDto.thumbnailName() == null ? mediumUrl : IMAGE_URL_PREFIX + imageDto.thumbnailName(),
+                mediumUrl
         );
     }
-
 }
@@ -0,0 +1,10 @@
+package com.example.kakao_mlms.dto.response;
+
+import com.example.kakao_mlms.repository.ReviewTermStatRepository;
+
+public record PopularTermResponse(String term,
+                                  Long frequency) {
+    public static PopularTermResponse from(ReviewTermStatRepository.TermFrequency termFrequency) {
+        return new PopularTermResponse(termFrequency.getTerm(), termFrequency.getFrequency());
+    }
+}
@@ -2,6 +2,8 @@ package com.example.kakao_mlms.dto.response;
 
 import com.example.kakao_mlms.domain.type.Category;
 import com.example.kakao_mlms.dto.QnaDto;
+import com.example.kakao_mlms.dto.QnaSummaryDto;
+import com.fasterxml.jackson.annotation.JsonInclude;
 
 import java.time.LocalDateTime;
 
@@ -11,7 +13,8 @@ public record QnaDtoResponse(Long id,
                              LocalDateTime createdDate,
                              Boolean isAnswer,
                              Boolean isBlind,
-                             UserDtoResponse user) {
+                             UserDtoResponse user,
+                             @JsonInclude(JsonInclude.Include.NON_NULL) String snippet) {
     public static QnaDtoResponse from(QnaDto qnaDto) {
         return new QnaDtoResponse(qnaDto.id(),
                 qnaDto.title(),
@@ -19,6 +22,18 @@ public record QnaDtoResponse(Long id,
                 qnaDto.createdDate(),
                 qnaDto.isAnswer(),
                 qnaDto.isBlind(),
-                UserDtoResponse.from(qnaDto.user()));
+                UserDtoResponse.from(qnaDto.user()),
+                null);
+    }
+
+    public static QnaDtoResponse from(QnaSummaryDto summary) {
+        return new QnaDtoResponse(summary.id(),
+                summary.title(),
+                summary.category(),
+                summary.createdDate(),
+                summary.isAnswer(),
+                summary.isBlind(),
+                new UserDtoResponse(summary.userId(), summary.userSerialId(), summary.userNickname()),
+                summary.snippet());
     }
 }
@@ -0,0 +1,19 @@
+package com.example.kakao_mlms.dto.response;
+
+import com.example.kakao_mlms.dto.ExceptionDto;
+import com.example.kakao_mlms.exception.ErrorCode;
+
+// 배치 요청의 개별 결과, 실패한 항목만 error 를 가짐
+public record ReviewBatchItemDto(
+        Boolean success,
+        ReviewDtoResponse data,
+        ExceptionDto error
+) {
+    public static ReviewBatchItemDto ok(ReviewDtoResponse data) {
+        return new ReviewBatchItemDto(true, data, null);
+    }
+
+    public static ReviewBatchItemDto fail(ErrorCode errorCode) {
+        return new ReviewBatchItemDto(false, null, new ExceptionDto(errorCode));
+    }
+}
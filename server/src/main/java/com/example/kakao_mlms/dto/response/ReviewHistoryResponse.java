@@ -0,0 +1,29 @@
+package com.example.kakao_mlms.dto.response;
+
+import com.example.kakao_mlms.domain.ReviewHistory;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record ReviewHistoryResponse(Long id,
+                                    String keyword,
+                                    Float latitude,
+                                    Float longitude,
+                                    List<Restaurant> results,
+                                    LocalDateTime createdDate) {
+    public static ReviewHistoryResponse of(ReviewHistory reviewHistory, List<Restaurant> results) {
+        return new ReviewHistoryResponse(
+                reviewHistory.getId(),
+                reviewHistory.getKeyword(),
+                reviewHistory.getLatitude(),
+                reviewHistory.getLongitude(),
+                results,
+                reviewHistory.getCreatedDate()
+        );
+    }
+
+    public record Restaurant(String storeName,
+                             String address,
+                             double score) {
+    }
+}
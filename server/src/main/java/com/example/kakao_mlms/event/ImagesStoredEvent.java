@@ -0,0 +1,9 @@
+package com.example.kakao_mlms.event;
+
+import java.util.List;
+
+/**
+ * QnA 이미지 원본 저장 이벤트 (트랜잭션 커밋 후 변환본 생성)
+ */
+public record ImagesStoredEvent(Long qnaId, List<String> storeFileNames) {
+}
@@ -0,0 +1,19 @@
+package com.example.kakao_mlms.event;
+
+/**
+ * QnA 생성/수정/삭제/답변 변경 이벤트 (트랜잭션 커밋 후 처리)
+ * qnaId 가 null 이면 여러 QnA 가 한 번에 바뀐 경우 (회원 탈퇴로 작성자 일괄 변경 등)
+ */
+public record QnaChangedEvent(Long qnaId) {
+    public static QnaChangedEvent of(Long qnaId) {
+        return new QnaChangedEvent(qnaId);
+    }
+
+    public static QnaChangedEvent all() {
+        return new QnaChangedEvent(null);
+    }
+
+    public boolean isBulk() {
+        return qnaId == null;
+    }
+}
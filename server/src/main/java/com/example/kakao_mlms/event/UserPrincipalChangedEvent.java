@@ -0,0 +1,7 @@
+package com.example.kakao_mlms.event;
+
+/**
+ * 로그아웃, 탈퇴, 권한 변경 등 인증 Principal 이 바뀌는 사용자 변경 이벤트 (트랜잭션 커밋 후 캐시 무효화)
+ */
+public record UserPrincipalChangedEvent(Long userId) {
+}
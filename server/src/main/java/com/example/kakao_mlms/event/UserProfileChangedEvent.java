@@ -0,0 +1,7 @@
+package com.example.kakao_mlms.event;
+
+/**
+ * 닉네임 등 QnA/답변 응답에 함께 노출되는 사용자 정보 변경 이벤트 (트랜잭션 커밋 후 처리)
+ */
+public record UserProfileChangedEvent(Long userId) {
+}
@@ -16,6 +16,9 @@ public enum ErrorCode {
     // Server, File Up/DownLoad Error
     SERVER_ERROR("5000", HttpStatus.INTERNAL_SERVER_ERROR, "API 서버 오류입니다."),
 
+    // Conflict Error
+    CONFLICT_MODIFICATION("4090", HttpStatus.CONFLICT, "다른 요청이 먼저 수정했습니다. 다시 시도해주세요."),
+
     // Access Denied Error
     ACCESS_DENIED_ERROR("4030", HttpStatus.FORBIDDEN, "액세스 권한이 없습니다."),
 
@@ -32,11 +35,23 @@ public enum ErrorCode {
     DUPLICATION_NICKNAME("4009", HttpStatus.BAD_REQUEST, "해당 닉네임이 이미 존재합니다"),
     PASSWORD_NOT_MATCH("4010", HttpStatus.BAD_REQUEST, "비밀번호가 일치하지 않습니다."),
     NEW_PASSWORD_SAME_AS_OLD("4011", HttpStatus.BAD_REQUEST, "새 비밀번호가 이전 비밀번호와 동일합니다"),
+    TOO_MANY_BATCH_QUERIES("4017", HttpStatus.BAD_REQUEST, "한 번에 요청할 수 있는 개수를 초과했습니다."),
+    INVALID_CURSOR("4018", HttpStatus.BAD_REQUEST, "유효하지 않은 커서입니다."),
+    BLIND_QNA("4019", HttpStatus.BAD_REQUEST, "비공개 QnA 입니다."),
+    INVALID_FILE_NAME("4020", HttpStatus.BAD_REQUEST, "유효하지 않은 파일명입니다."),
 
     /**
      * 502 Bad Gateway: Gateway Server Error
      */
     AUTH_SERVER_USER_INFO_ERROR("5020", HttpStatus.BAD_GATEWAY, "소셜 서버에서 유저 정보를 가져오는데 실패하였습니다."),
+    ML_SERVER_ERROR("5021", HttpStatus.BAD_GATEWAY, "ML 서버 응답이 올바르지 않습니다."),
+
+    /**
+     * 503 Service Unavailable, 504 Gateway Timeout: ML Server Error
+     */
+    ML_SERVER_UNAVAILABLE("5030", HttpStatus.SERVICE_UNAVAILABLE, "ML 서버를 일시적으로 사용할 수 없습니다."),
+    ML_SERVER_BUSY("5031", HttpStatus.SERVICE_UNAVAILABLE, "ML 서버 요청이 많습니다. 잠시 후 다시 시도해주세요."),
+    ML_SERVER_TIMEOUT("5040", HttpStatus.GATEWAY_TIMEOUT, "ML 서버 응답 시간이 초과되었습니다."),
 
     /**
      * 401 Unauthorized: Authentication and Authorization Error
@@ -1,6 +1,8 @@
 package com.example.kakao_mlms.exception;
 
+import jakarta.persistence.OptimisticLockException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -57,6 +59,13 @@ public class GlobalExceptionHandler {
         return ResponseDto.fail(e);
     }
 
+    // 동시 수정으로 version 이 어긋났을 때 발생하는 예외 (QnaRepository.findForModifyById)
+    @ExceptionHandler(value = {OptimisticLockingFailureException.class, OptimisticLockException.class})
+    public ResponseDto<?> handleOptimisticLockException(Exception e) {
+        log.error("handleOptimisticLockException() in GlobalExceptionHandler throw OptimisticLockException : {}", e.getMessage());
+        return ResponseDto.fail(new CommonException(ErrorCode.CONFLICT_MODIFICATION));
+    }
+
     // 개발자가 직접 정의한 예외
     @ExceptionHandler(value = {CommonException.class})
     public ResponseDto<?> handleApiException(CommonException e) {
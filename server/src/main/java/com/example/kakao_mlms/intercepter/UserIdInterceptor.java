@@ -1,24 +1,25 @@
 package com.example.kakao_mlms.intercepter;
 
+import com.example.kakao_mlms.security.PublicRouteMatcher;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.servlet.HandlerInterceptor;
 @Slf4j
+@RequiredArgsConstructor
 public class UserIdInterceptor implements HandlerInterceptor {
+    private final PublicRouteMatcher publicRouteMatcher;
+
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
-        String requestURI = request.getRequestURI();
-        if (requestURI.startsWith("/swagger-ui") || requestURI.startsWith("/v3/api-docs")) {
+        if (publicRouteMatcher.matches(request)) {
             return HandlerInterceptor.super.preHandle(request, response, handler);
         }
 
         final Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        log.info(authentication.getName() + "(ID) : " + authentication.getAuthorities().stream().findFirst()
-                .map(GrantedAuthority::getAuthority).orElseThrow());
         request.setAttribute("USER_ID", authentication.getName());
 
         return HandlerInterceptor.super.preHandle(request, response, handler);
@@ -2,6 +2,9 @@ package com.example.kakao_mlms.repository;
 
 import com.example.kakao_mlms.domain.Answer;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
@@ -9,4 +12,9 @@ public interface AnswerRepository extends JpaRepository<Answer, Long> {
     Optional<Answer> findByQna_Id(Long qnaId);
 
     void deleteByQna_Id(Long qnaId);
+
+    // 답변 작성자 닉네임이 바뀌면 상세 응답이 달라지므로 version 을 올려 기존 ETag 를 무효화
+    @Query(value = "UPDATE answers set version = version + 1 where user_id = :userId", nativeQuery = true)
+    @Modifying
+    void increaseVersionByUserId(@Param("userId") Long userId);
 }
\ No newline at end of file
@@ -3,5 +3,9 @@ package com.example.kakao_mlms.repository;
 import com.example.kakao_mlms.domain.Image;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
+
 public interface ImageRepository extends JpaRepository<Image, Long> {
-}
\ No newline at end of file
+    List<Image> findByUuidNameIn(Collection<String> uuidNames);
+}
@@ -1,57 +1,94 @@
 package com.example.kakao_mlms.repository;
 
+import com.example.kakao_mlms.domain.Answer;
 import com.example.kakao_mlms.domain.Qna;
 import com.example.kakao_mlms.domain.User;
 import com.example.kakao_mlms.domain.type.Category;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
-public interface QnaRepository extends JpaRepository<Qna, Long> {
-    Page<Qna> findByTitleContainingAndCategory(String title, Category category, Pageable pageable);
-    Page<Qna> findByUser_IdOrIsBlind(Long userId, boolean isBlind, Pageable pageable);
+public interface QnaRepository extends JpaRepository<Qna, Long>, QnaRepositoryCustom {
+    Optional<Qna> findQnaById(Long id);
 
-    @Query("SELECT q FROM Qna q WHERE q.user.id = :userId AND q.category = :category AND LOWER(q.title) LIKE LOWER(CONCAT('%', :title, '%'))")
-    Page<Qna> findByUserIdAndTitleAndCategory(@Param("userId") Long userId, @Param("title") String title, @Param("category") Category category, Pageable pageable);
+    // 수정용 조회 : 커밋 시 변경 필드가 없어도 (이미지만 교체) version 을 올림
+    @Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+    @Query("SELECT q FROM Qna q WHERE q.id = :id")
+    Optional<Qna> findForModifyById(@Param("id") Long id);
 
-    @Query("SELECT q FROM Qna q WHERE q.isAnswer = :isAnswer AND q.category = :category AND LOWER(q.title) LIKE LOWER(CONCAT('%', :title, '%'))")
-    Page<Qna> findByIsAnswerAndTitleAndCategory(@Param("isAnswer") Boolean isAnswer, @Param("title") String title, @Param("category") Category category, Pageable pageable);
+    // ETag 검사용 : 상세를 읽지 않고 QnA/답변 version 과 블라인드 판단에 필요한 값만 조회
+    @Query("SELECT q.version as version, a.version as answerVersion, q.user.id as userId, q.isBlind as isBlind " +
+            "FROM Qna q LEFT JOIN Answer a ON a.qna = q WHERE q.id = :qnaId")
+    Optional<QnaVersion> findVersionById(@Param("qnaId") Long qnaId);
+    Optional<Qna> findQnaByTitle(String title);
+    Optional<Qna> findQnaByIdAndUser(Long id, User user);
+    Page<Qna> findQnaByTitleContaining(String title, Pageable pageable);
 
-    @Query("SELECT q FROM Qna q WHERE q.user.id = :userId AND q.category = :category")
-    Page<Qna> findByUserIdAndCategory(@Param("userId") Long userId, @Param("category") Category category, Pageable pageable);
+    // 검색 색인용, user 를 join 하지 않고 FK 값만 조회
+    @Query("SELECT q.id as id, q.title as title, q.content as content, q.category as category, q.isAnswer as isAnswer, q.user.id as userId " +
+            "FROM Qna q WHERE q.id > :lastId ORDER BY q.id")
+    List<QnaSearchForm> findSearchFormsAfter(@Param("lastId") Long lastId, Pageable pageable);
 
-    @Query("SELECT q FROM Qna q WHERE q.isAnswer = :isAnswer AND q.category = :category")
-    Page<Qna> findByIsAnswerAndCategory(@Param("isAnswer") Boolean isAnswer, @Param("category") Category category, Pageable pageable);
+    @Query("SELECT q.id as id, q.title as title, q.content as content, q.category as category, q.isAnswer as isAnswer, q.user.id as userId " +
+            "FROM Qna q WHERE q.id = :id")
+    Optional<QnaSearchForm> findSearchFormById(@Param("id") Long id);
 
-    @Query("SELECT q FROM Qna q WHERE q.category = :category")
-    Page<Qna> findByCategory(@Param("category") Category category, Pageable pageable);
+    // 상세 조회 : QnA, 작성자, 이미지, 답변과 답변 작성자를 한 번의 SQL 로 조회
+    // 조회자와 무관하게 캐싱하므로 블라인드 접근 검사는 QnaService.getQnaDetail 에서 수행 (이미지 수만큼 행이 반복됨)
+    @Query("SELECT q as qna, a as answer FROM Qna q " +
+            "JOIN FETCH q.user " +
+            "LEFT JOIN FETCH q.images " +
+            "LEFT JOIN Answer a ON a.qna = q " +
+            "LEFT JOIN FETCH a.user " +
+            "WHERE q.id = :qnaId")
+    List<QnaDetailRow> findDetail(@Param("qnaId") Long qnaId);
 
-    @Query("SELECT q FROM Qna q WHERE q.user.id = :userId AND LOWER(q.title) LIKE LOWER(CONCAT('%', :title, '%'))")
-    Page<Qna> findByUserIdAndTitle(@Param("userId") Long userId, @Param("title") String title, Pageable pageable);
+    // 작성자가 바뀌므로 version 도 함께 올려 기존 ETag 를 무효화
+    @Query(value = "UPDATE qnas set user_id = 1, version = version + 1 where user_id = :userId", nativeQuery = true)
+    @Modifying
+    void updateQnaByUserId(@Param("userId") Long userId);
 
-    @Query("SELECT q FROM Qna q WHERE q.isAnswer = :isAnswer AND LOWER(q.title) LIKE LOWER(CONCAT('%', :title, '%'))")
-    Page<Qna> findByIsAnswerAndTitle(@Param("isAnswer") Boolean isAnswer, @Param("title") String title, Pageable pageable);
+    // 작성자 닉네임이 바뀌면 상세 응답이 달라지므로 version 을 올려 기존 ETag 를 무효화
+    @Query(value = "UPDATE qnas set version = version + 1 where user_id = :userId", nativeQuery = true)
+    @Modifying
+    void increaseVersionByUserId(@Param("userId") Long userId);
 
-    @Query("SELECT q FROM Qna q WHERE q.category = :category AND LOWER(q.title) LIKE LOWER(CONCAT('%', :title, '%'))")
-    Page<Qna> findByTitleAndCategory(@Param("title") String title, @Param("category") Category category, Pageable pageable);
+    interface QnaSearchForm {
+        Long getId();
 
-    @Query("SELECT q FROM Qna q WHERE LOWER(q.title) LIKE LOWER(CONCAT('%', :title, '%'))")
-    Page<Qna> findByTitle(@Param("title") String title, Pageable pageable);
+        String getTitle();
 
+        String getContent();
 
-    Optional<Qna> findQnaById(Long id);
-    Page<Qna> findByUserId(Long userId, Pageable pageable);
-    Page<Qna> findByIsAnswer(Boolean isAnswer, Pageable pageable);
-    Optional<Qna> findQnaByTitle(String title);
-    Optional<Qna> findQnaByIdAndUser(Long id, User user);
-    Page<Qna> findQnaByTitleContaining(String title, Pageable pageable);
+        Category getCategory();
 
-    @Query(value = "UPDATE qnas set user_id = 1 where user_id = :userId", nativeQuery = true)
-    @Modifying
-    void updateQnaByUserId(@Param("userId") Long userId);
-}
\ No newline at end of file
+        Boolean getIsAnswer();
+
+        Long getUserId();
+    }
+
+    interface QnaVersion {
+        Long getVersion();
+
+        // 답변이 없으면 null
+        Long getAnswerVersion();
+
+        Long getUserId();
+
+        Boolean getIsBlind();
+    }
+
+    interface QnaDetailRow {
+        Qna getQna();
+
+        Answer getAnswer();
+    }
+}
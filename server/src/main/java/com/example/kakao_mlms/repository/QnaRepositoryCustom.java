@@ -0,0 +1,22 @@
+package com.example.kakao_mlms.repository;
+
+import com.example.kakao_mlms.dto.QnaSearchCondition;
+import com.example.kakao_mlms.dto.QnaSummaryDto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Collection;
+import java.util.List;
+
+// snippetLength : 본문 앞부분을 몇 글자까지 함께 조회할지, 0 이면 본문을 조회하지 않음
+public interface QnaRepositoryCustom {
+    Page<QnaSummaryDto> search(QnaSearchCondition condition, int snippetLength, Pageable pageable);
+
+    // id 내림차순, lastId 보다 작은 id 중 최대 limit 개 (lastId 가 null 이면 처음부터)
+    List<QnaSummaryDto> searchAfter(QnaSearchCondition condition, int snippetLength, Long lastId, int limit);
+
+    // 순서는 보장하지 않음
+    List<QnaSummaryDto> findSummariesByIds(Collection<Long> ids, int snippetLength);
+
+    long countMatching(QnaSearchCondition condition);
+}
@@ -0,0 +1,162 @@
+package com.example.kakao_mlms.repository;
+
+import com.example.kakao_mlms.cache.PageCountCache;
+import com.example.kakao_mlms.domain.Qna;
+import com.example.kakao_mlms.domain.User;
+import com.example.kakao_mlms.dto.CountedPage;
+import com.example.kakao_mlms.dto.QnaSearchCondition;
+import com.example.kakao_mlms.dto.QnaSummaryDto;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * QnaSearchCondition 에서 값이 있는 조건만 predicate 로 만들어 조회
+ * - 값은 모두 bind parameter 로 전달되어 조건 조합별로 같은 SQL 이 재사용됨
+ * - count 는 첫 페이지가 다 차지 않거나 마지막 페이지면 생략하고, 필요하면 PageCountCache 를 거쳐 id 만 센다
+ */
+@RequiredArgsConstructor
+public class QnaRepositoryImpl implements QnaRepositoryCustom {
+    private static final char LIKE_ESCAPE = '\\';
+
+    private final EntityManager entityManager;
+    private final PageCountCache pageCountCache;
+
+    @Override
+    public Page<QnaSummaryDto> search(QnaSearchCondition condition, int snippetLength, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<QnaSummaryDto> query = cb.createQuery(QnaSummaryDto.class);
+        Root<Qna> qna = query.from(Qna.class);
+        selectSummary(cb, query, qna, snippetLength)
+                .where(predicates(cb, qna, condition).toArray(Predicate[]::new))
+                .orderBy(QueryUtils.toOrders(pageable.getSort(), qna, cb));
+
+        TypedQuery<QnaSummaryDto> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+
+        return CountedPage.of(typedQuery.getResultList(), pageable, () -> pageCountCache.count(
+                PageCountCache.QNAS, condition.isEmpty() ? null : condition, () -> countMatching(condition)));
+    }
+
+    // OFFSET 없이 PK 인덱스에서 lastId 다음 위치부터 읽으므로 페이지 깊이와 무관하게 일정한 비용
+    @Override
+    public List<QnaSummaryDto> searchAfter(QnaSearchCondition condition, int snippetLength, Long lastId, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<QnaSummaryDto> query = cb.createQuery(QnaSummaryDto.class);
+        Root<Qna> qna = query.from(Qna.class);
+        List<Predicate> predicates = predicates(cb, qna, condition);
+        if (lastId != null) {
+            predicates.add(cb.lessThan(qna.get("id"), lastId));
+        }
+        selectSummary(cb, query, qna, snippetLength)
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.desc(qna.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<QnaSummaryDto> findSummariesByIds(Collection<Long> ids, int snippetLength) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<QnaSummaryDto> query = cb.createQuery(QnaSummaryDto.class);
+        Root<Qna> qna = query.from(Qna.class);
+        selectSummary(cb, query, qna, snippetLength)
+                .where(qna.get("id").in(ids));
+
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    @Override
+    public long countMatching(QnaSearchCondition condition) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Qna> qna = query.from(Qna.class);
+        query.select(cb.count(qna.get("id")))
+                .where(predicates(cb, qna, condition).toArray(Predicate[]::new));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    // 엔티티 대신 목록에 필요한 컬럼만 조회, 작성자는 같은 SQL 에서 inner join (Qna.user 는 optional = false)
+    // snippet 은 DB 에서 SUBSTRING 한 결과만 전송되므로 본문 길이와 무관
+    private static CriteriaQuery<QnaSummaryDto> selectSummary(CriteriaBuilder cb, CriteriaQuery<QnaSummaryDto> query,
+                                                              Root<Qna> qna, int snippetLength) {
+        Join<Qna, User> user = qna.join("user", JoinType.INNER);
+        Expression<String> snippet = snippetLength > 0
+                ? cb.substring(qna.get("content"), 1, snippetLength)
+                : cb.nullLiteral(String.class);
+        return query.select(cb.construct(QnaSummaryDto.class,
+                qna.get("id"),
+                qna.get("title"),
+                qna.get("category"),
+                qna.get("createdDate"),
+                qna.get("isAnswer"),
+                qna.get("isBlind"),
+                user.get("id"),
+                user.get("serialId"),
+                user.get("nickname"),
+                snippet));
+    }
+
+    private static List<Predicate> predicates(CriteriaBuilder cb, Root<Qna> qna, QnaSearchCondition condition) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (StringUtils.hasText(condition.title())) {
+            predicates.add(cb.like(cb.lower(qna.get("title")), containsPattern(condition.title()), LIKE_ESCAPE));
+        }
+        if (condition.category() != null) {
+            predicates.add(cb.equal(qna.get("category"), condition.category()));
+        }
+        if (condition.isAnswer() != null) {
+            predicates.add(cb.equal(qna.get("isAnswer"), condition.isAnswer()));
+        }
+        if (condition.isBlind() != null) {
+            predicates.add(cb.equal(qna.get("isBlind"), condition.isBlind()));
+        }
+        if (condition.userId() != null) {
+            // FK 컬럼으로 비교, count 쿼리는 users 를 join 하지 않음
+            predicates.add(cb.equal(qna.get("user").get("id"), condition.userId()));
+        }
+        if (condition.createdFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(qna.get("createdDate"), condition.createdFrom()));
+        }
+        if (condition.createdTo() != null) {
+            predicates.add(cb.lessThan(qna.get("createdDate"), condition.createdTo()));
+        }
+        return predicates;
+    }
+
+    private static String containsPattern(String text) {
+        String escaped = text.toLowerCase()
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+}
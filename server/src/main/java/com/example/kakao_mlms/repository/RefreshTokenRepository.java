@@ -0,0 +1,29 @@
+package com.example.kakao_mlms.repository;
+
+import com.example.kakao_mlms.domain.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, String> {
+    // 아직 사용되지 않은 토큰만 사용 처리 (동시 재발급 시 한 요청만 1 반환)
+    // 0 이면 호출자가 최신 상태를 다시 읽을 수 있도록 영속성 컨텍스트를 비움
+    @Modifying(clearAutomatically = true)
+    @Query("update RefreshToken r set r.rotatedAt = :now where r.id = :id and r.rotatedAt is null and r.revoked = false")
+    int markRotated(@Param("id") String id, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("update RefreshToken r set r.revoked = true where r.familyId = :familyId")
+    int revokeFamily(@Param("familyId") String familyId);
+
+    @Modifying
+    @Query("update RefreshToken r set r.revoked = true where r.userId = :userId and r.revoked = false")
+    int revokeAllByUserId(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("delete from RefreshToken r where r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
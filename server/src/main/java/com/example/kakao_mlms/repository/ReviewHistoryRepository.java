@@ -0,0 +1,18 @@
+package com.example.kakao_mlms.repository;
+
+import com.example.kakao_mlms.domain.ReviewHistory;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ReviewHistoryRepository extends JpaRepository<ReviewHistory, Long> {
+    // 총 개수가 필요 없는 목록이므로 count 쿼리 없이 조회
+    Slice<ReviewHistory> findByUser_Id(Long userId, Pageable pageable);
+
+    @Modifying
+    @Query("delete from ReviewHistory h where h.user.id = :userId")
+    void deleteAllByUserId(@Param("userId") Long userId);
+}
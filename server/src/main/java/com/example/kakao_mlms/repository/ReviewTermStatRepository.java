@@ -0,0 +1,30 @@
+package com.example.kakao_mlms.repository;
+
+import com.example.kakao_mlms.domain.ReviewTermStat;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ReviewTermStatRepository extends JpaRepository<ReviewTermStat, Long> {
+    @Modifying
+    @Query("update ReviewTermStat t set t.frequency = t.frequency + :frequency, t.modifiedDate = :now " +
+            "where t.geohash = :geohash and t.term = :term")
+    int increaseFrequency(@Param("geohash") String geohash, @Param("term") String term,
+                          @Param("frequency") Long frequency, @Param("now") LocalDateTime now);
+
+    // geohash prefix 로 주변 격자를 묶어 집계 (uk_review_term_stat_geohash_term 인덱스 범위 조회)
+    @Query("select t.term as term, sum(t.frequency) as frequency from ReviewTermStat t " +
+            "where t.geohash like concat(:geohashPrefix, '%') group by t.term order by sum(t.frequency) desc")
+    List<TermFrequency> findPopularTerms(@Param("geohashPrefix") String geohashPrefix, Pageable pageable);
+
+    interface TermFrequency {
+        String getTerm();
+
+        Long getFrequency();
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.kakao_mlms.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * 테이블 전체 행 수를 COUNT(*) 없이 DB 통계에서 추정
+ * PostgreSQL 의 pg_class.reltuples 만 지원하며, 그 외 DB 이거나 통계가 없으면(ANALYZE 전) empty
+ */
+@Slf4j
+@Component
+public class TableRowEstimator {
+    private final JdbcTemplate jdbcTemplate;
+    private volatile Boolean postgres;
+
+    public TableRowEstimator(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public OptionalLong estimate(String table) {
+        if (!isPostgres()) {
+            return OptionalLong.empty();
+        }
+
+        try {
+            List<Long> rows = jdbcTemplate.queryForList(
+                    "SELECT reltuples::bigint FROM pg_class WHERE oid = to_regclass(?)", Long.class, table);
+            if (rows.isEmpty() || rows.get(0) == null || rows.get(0) < 0) {
+                return OptionalLong.empty();
+            }
+            return OptionalLong.of(rows.get(0));
+        } catch (DataAccessException e) {
+            log.warn("Row estimate failed : {}", e.getMessage());
+            return OptionalLong.empty();
+        }
+    }
+
+    private boolean isPostgres() {
+        if (postgres == null) {
+            postgres = Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                    "PostgreSQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName())));
+        }
+        return postgres;
+    }
+}
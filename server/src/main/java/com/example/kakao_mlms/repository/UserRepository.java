@@ -3,7 +3,6 @@ package com.example.kakao_mlms.repository;
 import com.example.kakao_mlms.domain.User;
 import com.example.kakao_mlms.domain.type.EProvider;
 import com.example.kakao_mlms.domain.type.ERole;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -20,7 +19,10 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query(value = "update User u set u.refreshToken = :refreshToken where u.id = :userId")
     void updateRefreshToken(@Param("userId") Long userId, @Param("refreshToken") String refreshToken);
 
-    Page<User> findByNicknameContainingIgnoreCase(String nickname, Pageable pageable);
+    // 목록 조회는 COUNT 없이 내용만, 전체 개수는 PageCountCache 를 거쳐 별도로 조회
+    List<User> findByNicknameContainingIgnoreCase(String nickname, Pageable pageable);
+    long countByNicknameContainingIgnoreCase(String nickname);
+    List<User> findAllBy(Pageable pageable);
 
     Optional<User> findByIdAndProvider(Long userId, EProvider provider);
 
@@ -40,7 +42,7 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query(value = "update User u set u.refreshToken = :refreshToken, u.isLogin = :isLogin where u.id = :userId")
     void updateRefreshTokenAndLoginStatus(@Param("userId") Long userId, @Param("refreshToken") String refreshToken, @Param("isLogin") Boolean isLogin);
 
-    Optional<UserSecurityForm> findByIdAndIsLoginAndRefreshTokenIsNotNull(Long id, boolean b);
+    Optional<UserSecurityForm> findByIdAndIsLogin(Long id, boolean b);
 
     interface UserSecurityForm {
         static UserSecurityForm invoke(User user) {
@@ -0,0 +1,290 @@
+package com.example.kakao_mlms.search;
+
+import com.example.kakao_mlms.domain.type.Category;
+import com.example.kakao_mlms.event.QnaChangedEvent;
+import com.example.kakao_mlms.repository.QnaRepository;
+import com.example.kakao_mlms.repository.QnaRepository.QnaSearchForm;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.cjk.CJKAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.QueryBuilder;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * QnA 제목/본문 전문 검색 색인 (Lucene, 메모리)
+ * - 한글은 형태소 분석 대신 CJK bigram 으로 토큰화 ("배달비" -> "배달", "달비") 해 부분 일치 검색을 지원
+ * - 제목 검색은 bigram 을 연속 구문으로 찾아 LIKE '%검색어%' 와 같은 결과를 반환
+ *   bigram 으로 표현되지 않는 검색어(한 글자, 영문/숫자 부분 단어)는 supports() 가 false 이고 호출 측은 DB 검색을 사용
+ * - 본문까지 검색하면 제목 일치에 가중치를 주어 관련도 순으로 정렬, id 순 정렬도 지원
+ * - 기동 시 DB 에서 전체 색인을 만들고, 이후에는 커밋된 QnaChangedEvent 로 변경분만 반영
+ * - 색인이 준비되기 전이나 qna.search.enabled=false 이면 isAvailable() 이 false 이고 호출 측은 DB 검색을 사용
+ */
+@Slf4j
+@Component
+public class QnaSearchIndex implements DisposableBean {
+    private static final String ID = "id";
+    private static final String ID_SORT = "idSort";
+    private static final String TITLE = "title";
+    private static final String CONTENT = "content";
+    private static final String CATEGORY = "category";
+    private static final String USER_ID = "userId";
+    private static final String IS_ANSWER = "isAnswer";
+    private static final float TITLE_BOOST = 2.0f;
+
+    private final QnaRepository qnaRepository;
+    private final boolean enabled;
+    private final int rebuildBatchSize;
+    private final Analyzer analyzer = new CJKAnalyzer();
+    private final QueryBuilder queryBuilder = new QueryBuilder(analyzer);
+    private final Directory directory = new ByteBuffersDirectory();
+    private final IndexWriter indexWriter;
+    private final SearcherManager searcherManager;
+    private final AtomicBoolean rebuildPending = new AtomicBoolean(false);
+    private volatile boolean ready = false;
+
+    public QnaSearchIndex(QnaRepository qnaRepository,
+                          @Value("${qna.search.enabled:true}") boolean enabled,
+                          @Value("${qna.search.rebuild-batch-size:500}") int rebuildBatchSize) throws IOException {
+        this.qnaRepository = qnaRepository;
+        this.enabled = enabled;
+        this.rebuildBatchSize = rebuildBatchSize;
+        this.indexWriter = new IndexWriter(directory, new IndexWriterConfig(analyzer));
+        this.searcherManager = new SearcherManager(indexWriter, null);
+    }
+
+    public boolean isAvailable() {
+        return enabled && ready;
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    /**
+     * 한글/한자/가나로만 된 두 글자 이상의 단어로 구성된 검색어만 색인으로 처리 가능
+     */
+    public boolean supports(String text) {
+        if (text == null || text.isBlank()) {
+            return false;
+        }
+        for (String word : text.trim().split("\\s+")) {
+            if (word.codePointCount(0, word.length()) < 2 || !word.codePoints().allMatch(QnaSearchIndex::isCjk)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 작성자 일괄 변경(회원 탈퇴) 등 대상 id 를 특정할 수 없는 변경은 전체 재색인
+    // 커밋한 요청 스레드를 붙잡지 않도록 비동기로 실행하고, 이미 대기 중인 재색인이 있으면 그 재색인이 이번 변경도 반영
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, condition = "#event.isBulk()")
+    public void onQnaBulkChanged(QnaChangedEvent event) {
+        if (enabled && rebuildPending.compareAndSet(false, true)) {
+            rebuild();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, condition = "!#event.isBulk()")
+    public void onQnaChanged(QnaChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            qnaRepository.findSearchFormById(event.qnaId())
+                    .ifPresentOrElse(this::index, () -> delete(event.qnaId()));
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException | UncheckedIOException e) {
+            log.error("QnA 색인 갱신 실패 : {}", event.qnaId(), e);
+        }
+    }
+
+    public synchronized void rebuild() {
+        long start = System.currentTimeMillis();
+        // 이 시점 이후 커밋된 일괄 변경은 다음 재색인이 반영
+        rebuildPending.set(false);
+        try {
+            indexWriter.deleteAll();
+
+            long lastId = 0L;
+            long count = 0L;
+            List<QnaSearchForm> forms;
+            do {
+                forms = qnaRepository.findSearchFormsAfter(lastId, PageRequest.of(0, rebuildBatchSize));
+                for (QnaSearchForm form : forms) {
+                    index(form);
+                    lastId = form.getId();
+                }
+                count += forms.size();
+            } while (forms.size() == rebuildBatchSize);
+
+            indexWriter.commit();
+            searcherManager.maybeRefreshBlocking();
+            ready = true;
+            log.info("QnA 색인 완료 : {}건, {}ms", count, System.currentTimeMillis() - start);
+        } catch (IOException | UncheckedIOException e) {
+            log.error("QnA 색인 실패", e);
+        }
+    }
+
+    /**
+     * text 와 일치하는 QnA id 를 order 순으로 반환
+     * includeContent 가 false 이면 제목에 text 가 그대로 포함된 QnA 만 반환
+     * userId, category, isAnswer 는 null 이면 조건에서 제외
+     */
+    public SearchHits search(String text, boolean includeContent, Long userId, Category category, Boolean isAnswer,
+                             Order order, int offset, int limit) {
+        Query textQuery = includeContent ? titleOrContentQuery(text) : queryBuilder.createPhraseQuery(TITLE, text);
+        // 분석 후 남는 토큰이 없는 검색어 (공백, 불용어만 입력)
+        if (textQuery == null || limit <= 0) {
+            return SearchHits.EMPTY;
+        }
+
+        BooleanQuery.Builder query = new BooleanQuery.Builder()
+                .add(textQuery, BooleanClause.Occur.MUST);
+        if (userId != null) {
+            query.add(new TermQuery(new Term(USER_ID, userId.toString())), BooleanClause.Occur.FILTER);
+        }
+        if (category != null) {
+            query.add(new TermQuery(new Term(CATEGORY, category.name())), BooleanClause.Occur.FILTER);
+        }
+        if (isAnswer != null) {
+            query.add(new TermQuery(new Term(IS_ANSWER, isAnswer.toString())), BooleanClause.Occur.FILTER);
+        }
+
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                Query built = query.build();
+                TopDocs topDocs = order == Order.RELEVANCE
+                        ? searcher.search(built, offset + limit)
+                        : searcher.search(built, offset + limit,
+                        new Sort(new SortField(ID_SORT, SortField.Type.LONG, order == Order.ID_DESC)));
+                long totalHits = topDocs.totalHits.relation == TotalHits.Relation.EQUAL_TO
+                        ? topDocs.totalHits.value
+                        : searcher.count(built);
+
+                List<Long> ids = new ArrayList<>(limit);
+                ScoreDoc[] scoreDocs = topDocs.scoreDocs;
+                for (int i = offset; i < scoreDocs.length; i++) {
+                    Document document = searcher.storedFields().document(scoreDocs[i].doc, Set.of(ID));
+                    ids.add(Long.valueOf(document.get(ID)));
+                }
+                return new SearchHits(ids, totalHits);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Query titleOrContentQuery(String text) {
+        Query titleQuery = queryBuilder.createBooleanQuery(TITLE, text, BooleanClause.Occur.MUST);
+        Query contentQuery = queryBuilder.createBooleanQuery(CONTENT, text, BooleanClause.Occur.MUST);
+        if (titleQuery == null || contentQuery == null) {
+            return null;
+        }
+        return new BooleanQuery.Builder()
+                .add(new BoostQuery(titleQuery, TITLE_BOOST), BooleanClause.Occur.SHOULD)
+                .add(contentQuery, BooleanClause.Occur.SHOULD)
+                .build();
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        searcherManager.close();
+        indexWriter.close();
+        directory.close();
+    }
+
+    private void index(QnaSearchForm form) {
+        Document document = new Document();
+        String id = form.getId().toString();
+        document.add(new StringField(ID, id, Field.Store.YES));
+        document.add(new NumericDocValuesField(ID_SORT, form.getId()));
+        document.add(new TextField(TITLE, nullToEmpty(form.getTitle()), Field.Store.NO));
+        document.add(new TextField(CONTENT, nullToEmpty(form.getContent()), Field.Store.NO));
+        if (form.getCategory() != null) {
+            document.add(new StringField(CATEGORY, form.getCategory().name(), Field.Store.NO));
+        }
+        if (form.getUserId() != null) {
+            document.add(new StringField(USER_ID, form.getUserId().toString(), Field.Store.NO));
+        }
+        document.add(new StringField(IS_ANSWER, String.valueOf(Boolean.TRUE.equals(form.getIsAnswer())), Field.Store.NO));
+
+        try {
+            indexWriter.updateDocument(new Term(ID, id), document);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void delete(Long qnaId) {
+        try {
+            indexWriter.deleteDocuments(new Term(ID, qnaId.toString()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static boolean isCjk(int codePoint) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+        return script == Character.UnicodeScript.HANGUL || script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA || script == Character.UnicodeScript.KATAKANA;
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+
+    public enum Order {
+        RELEVANCE, ID_ASC, ID_DESC
+    }
+
+    public record SearchHits(List<Long> ids, long totalHits) {
+        static final SearchHits EMPTY = new SearchHits(List.of(), 0L);
+    }
+}
@@ -2,9 +2,11 @@ package com.example.kakao_mlms.security;
 
 import com.example.kakao_mlms.domain.type.ERole;
 import com.example.kakao_mlms.security.info.JwtUserInfo;
+import com.example.kakao_mlms.security.jwt.JwtDenyList;
 import com.example.kakao_mlms.security.service.CustomUserDetailService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -16,6 +18,11 @@ import org.springframework.stereotype.Component;
 @Slf4j
 public class CustomAuthenticationProvider implements AuthenticationProvider {
     private final CustomUserDetailService customUserDetailService;
+    private final JwtDenyList jwtDenyList;
+
+    // true 인 경우 DB 조회 없이 Access Token 클레임만으로 인증
+    @Value("${jwt.stateless-auth:false}")
+    private boolean statelessAuth;
 
     /**
      * 인증 구현
@@ -25,7 +32,14 @@ public class CustomAuthenticationProvider implements AuthenticationProvider {
         // 전달 받은 UsernamePasswordAuthenticationToken
         JwtUserInfo jwtUserInfo = (JwtUserInfo) authentication.getPrincipal();
 
-        CustomUserDetails userPrincipal = (CustomUserDetails) customUserDetailService.loadUserById(jwtUserInfo.id());
+        // 로그아웃, 탈퇴로 폐기된 토큰
+        if (jwtDenyList.isRevoked(jwtUserInfo)) {
+            throw new AuthenticationException("Revoked Token") {};
+        }
+
+        CustomUserDetails userPrincipal = statelessAuth
+                ? CustomUserDetails.create(jwtUserInfo)
+                : (CustomUserDetails) customUserDetailService.loadUserById(jwtUserInfo.id());
 
         if (userPrincipal.getRole() != jwtUserInfo.role() && userPrincipal.getRole() != ERole.ADMIN) {
             throw new AuthenticationException("Invalid Role") {};
@@ -2,6 +2,7 @@ package com.example.kakao_mlms.security;
 
 import com.example.kakao_mlms.domain.type.ERole;
 import com.example.kakao_mlms.repository.UserRepository;
+import com.example.kakao_mlms.security.info.JwtUserInfo;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -46,6 +47,18 @@ public class CustomUserDetails implements OAuth2User, OidcUser, UserDetails {
                 Collections.singletonList(new SimpleGrantedAuthority(user.getRole().getRoleCode())
                 ));
     }
+    /**
+     * Stateless 인증 : 검증된 Access Token 의 클레임만으로 Principal 생성
+     */
+    public static CustomUserDetails create(JwtUserInfo jwtUserInfo) {
+
+        return new CustomUserDetails(
+                jwtUserInfo.id(),
+                null,
+                jwtUserInfo.role(),
+                Collections.singletonList(new SimpleGrantedAuthority(jwtUserInfo.role().getRoleCode())
+                ));
+    }
     /*
      * OAuth2User
      */
@@ -0,0 +1,86 @@
+package com.example.kakao_mlms.security;
+
+import com.example.kakao_mlms.constant.Constants;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+
+/**
+ * 인증이 필요 없는 URL(Constants.NO_NEED_AUTH_URLS) 판별
+ * JwtFilter, JwtExceptionFilter, UserIdInterceptor, SecurityConfig 가 모두 이 Matcher 를 사용
+ * 등록된 prefix 와 같거나 prefix 뒤가 '/' 로 이어지는 경로만 허용 (/api/v1/auth/reissue, /api/v1/auth/reissue/..)
+ * 시작 시 prefix trie 를 만들어 두고, 요청마다 URI 문자만 순회하므로 객체 생성이 없음
+ */
+@Component
+public class PublicRouteMatcher implements RequestMatcher {
+    private final Node root = new Node();
+
+    public PublicRouteMatcher() {
+        this(Constants.NO_NEED_AUTH_URLS);
+    }
+
+    public PublicRouteMatcher(String... prefixes) {
+        for (String prefix : prefixes) {
+            Node node = root;
+            for (int i = 0; i < prefix.length(); i++) {
+                node = node.childOrCreate(prefix.charAt(i));
+            }
+            node.terminal = true;
+        }
+    }
+
+    @Override
+    public boolean matches(HttpServletRequest request) {
+        return matches(request.getRequestURI());
+    }
+
+    public boolean matches(String path) {
+        if (path == null) {
+            return false;
+        }
+
+        Node node = root;
+        for (int i = 0; i < path.length(); i++) {
+            char c = path.charAt(i);
+            if (node.terminal && c == '/') {
+                return true;
+            }
+            node = node.child(c);
+            if (node == null) {
+                return false;
+            }
+        }
+        return node.terminal;
+    }
+
+    private static final class Node {
+        private char[] keys = new char[0];
+        private Node[] children = new Node[0];
+        private boolean terminal;
+
+        private Node child(char c) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] == c) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        private Node childOrCreate(char c) {
+            Node child = child(c);
+            if (child != null) {
+                return child;
+            }
+
+            child = new Node();
+            keys = Arrays.copyOf(keys, keys.length + 1);
+            children = Arrays.copyOf(children, children.length + 1);
+            keys[keys.length - 1] = c;
+            children[children.length - 1] = child;
+            return child;
+        }
+    }
+}
@@ -1,10 +1,11 @@
 package com.example.kakao_mlms.security.config;
 
-import com.example.kakao_mlms.constant.Constants;
 import com.example.kakao_mlms.domain.type.ERole;
 import com.example.kakao_mlms.security.BasicAuthenticationProvider;
 import com.example.kakao_mlms.security.CustomAuthenticationProvider;
 import com.example.kakao_mlms.security.JwtAuthEntryPoint;
+import com.example.kakao_mlms.security.PublicRouteMatcher;
+import com.example.kakao_mlms.security.filter.AccessLogFilter;
 import com.example.kakao_mlms.security.filter.JwtExceptionFilter;
 import com.example.kakao_mlms.security.filter.JwtFilter;
 import com.example.kakao_mlms.security.handler.JwtAccessDeniedHandler;
@@ -16,7 +17,9 @@ import com.example.kakao_mlms.security.handler.signout.CustomSignOutProcessHandl
 import com.example.kakao_mlms.security.handler.signout.CustomSignOutResultHandler;
 import com.example.kakao_mlms.security.service.CustomOAuth2UserService;
 import com.example.kakao_mlms.security.service.CustomUserDetailService;
+import com.example.kakao_mlms.util.AccessLogRecorder;
 import com.example.kakao_mlms.util.JwtUtil;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
 import org.springframework.context.annotation.Bean;
@@ -51,6 +54,8 @@ public class SecurityConfig {
     private final OAuth2LoginFailureHandler oAuth2LoginFailureHandler;
     private final CustomOAuth2UserService customOAuth2UserService;
     private final CustomAuthenticationProvider customAuthenticationProvider;
+    private final PublicRouteMatcher publicRouteMatcher;
+    private final AccessLogRecorder accessLogRecorder;
 
 
     @Bean
@@ -65,7 +70,9 @@ public class SecurityConfig {
                 )
                 .authorizeHttpRequests(requestMatcherRegistry -> requestMatcherRegistry
                         .requestMatchers(PathRequest.toStaticResources().atCommonLocations()).permitAll()
-                        .requestMatchers(Constants.NO_NEED_AUTH_URLS).permitAll()
+                        .requestMatchers(publicRouteMatcher).permitAll()
+                        //스트리밍 응답(SSE)의 async dispatch 는 최초 요청에서 이미 인증됨
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers("/api/v1/admins/**").hasRole(ERole.ADMIN.name())
                         .anyRequest().authenticated())
                 //폼 기반 로그인 설정
@@ -102,8 +109,9 @@ public class SecurityConfig {
                                 .authenticationEntryPoint(jwtAuthEntryPoint)
                                 .accessDeniedHandler(jwtAccessDeniedHandler)
                 )
-                .addFilterBefore(new JwtFilter(jwtUtil, customAuthenticationProvider), LogoutFilter.class)
-                .addFilterBefore(new JwtExceptionFilter(), JwtFilter.class)
+                .addFilterBefore(new JwtFilter(jwtUtil, customAuthenticationProvider, publicRouteMatcher), LogoutFilter.class)
+                .addFilterBefore(new JwtExceptionFilter(publicRouteMatcher), JwtFilter.class)
+                .addFilterBefore(new AccessLogFilter(accessLogRecorder), JwtExceptionFilter.class)
 
                 //SecurityFilterChain 빈을 반환
                 .getOrBuild();
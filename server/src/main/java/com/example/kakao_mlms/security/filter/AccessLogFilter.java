@@ -0,0 +1,54 @@
+package com.example.kakao_mlms.security.filter;
+
+import com.example.kakao_mlms.security.CustomUserDetails;
+import com.example.kakao_mlms.util.AccessLogRecorder;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+//요청 처리 결과를 AccessLogRecorder 에 전달 (JwtExceptionFilter 보다 앞에서 실행)
+@RequiredArgsConstructor
+public class AccessLogFilter extends OncePerRequestFilter {
+    private final AccessLogRecorder accessLogRecorder;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        long start = System.nanoTime();
+        boolean failed = false;
+
+        try {
+            filterChain.doFilter(request, response);
+        } catch (IOException | ServletException | RuntimeException e) {
+            failed = true;
+            throw e;
+        } finally {
+            int status = failed ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : response.getStatus();
+            if (accessLogRecorder.shouldSample(status)) {
+                accessLogRecorder.record(request.getMethod(), getPathTemplate(request), getUserId(), status,
+                        System.nanoTime() - start);
+            }
+        }
+    }
+
+    // /api/v1/qnas/{qnaId} 처럼 매핑된 패턴, 매핑 전 단계에서 끝난 요청은 URI 그대로
+    private String getPathTemplate(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : request.getRequestURI();
+    }
+
+    private Long getUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
+            return userDetails.getId();
+        }
+        return null;
+    }
+}
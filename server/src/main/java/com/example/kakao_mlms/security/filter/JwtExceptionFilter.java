@@ -1,7 +1,7 @@
 package com.example.kakao_mlms.security.filter;
 
-import com.example.kakao_mlms.constant.Constants;
 import com.example.kakao_mlms.exception.ErrorCode;
+import com.example.kakao_mlms.security.PublicRouteMatcher;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.MalformedJwtException;
@@ -10,14 +10,17 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Arrays;
 
 @Slf4j
+@RequiredArgsConstructor
 public class JwtExceptionFilter extends OncePerRequestFilter {
+    private final PublicRouteMatcher publicRouteMatcher;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         try {
@@ -69,7 +72,6 @@ public class JwtExceptionFilter extends OncePerRequestFilter {
 
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
-        String path = request.getRequestURI();
-        return Arrays.stream(Constants.NO_NEED_AUTH_URLS).anyMatch(path::startsWith);
+        return publicRouteMatcher.matches(request);
     }
 }
@@ -5,6 +5,7 @@ import com.example.kakao_mlms.domain.type.ERole;
 import com.example.kakao_mlms.exception.CommonException;
 import com.example.kakao_mlms.exception.ErrorCode;
 import com.example.kakao_mlms.security.CustomAuthenticationProvider;
+import com.example.kakao_mlms.security.PublicRouteMatcher;
 import com.example.kakao_mlms.security.info.JwtUserInfo;
 import com.example.kakao_mlms.util.HeaderUtil;
 import com.example.kakao_mlms.util.JwtUtil;
@@ -22,7 +23,6 @@ import org.springframework.security.web.authentication.WebAuthenticationDetailsS
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Arrays;
 
 //이거 소셜
 @RequiredArgsConstructor
@@ -31,11 +31,10 @@ public class JwtFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
     private final CustomAuthenticationProvider customAuthenticationProvider;
+    private final PublicRouteMatcher publicRouteMatcher;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws IOException, ServletException {
-        log.info("REQUEST : [{}] {}", request.getMethod(), request.getRequestURI());
-
         // Request Header에서 토큰 추출
         String token = HeaderUtil.refineHeader(request, Constants.AUTHORIZATION_HEADER, Constants.BEARER_PREFIX)
                 .orElse(null);
@@ -49,9 +48,16 @@ public class JwtFilter extends OncePerRequestFilter {
         //토근 검증
         Claims claims = jwtUtil.validateToken(token);
 
+        // Refresh Token 으로는 API 인증 불가
+        if (Constants.REFRESH_TOKEN_TYPE.equals(claims.get(Constants.TOKEN_TYPE_CLAIM_NAME, String.class))) {
+            throw new IllegalArgumentException("Refresh Token Not Allowed");
+        }
+
         JwtUserInfo userInfo = new JwtUserInfo(
                 Long.valueOf(claims.get(Constants.USER_ID_CLAIM_NAME, String.class)),
-                ERole.valueOf(claims.get(Constants.USER_ROLE_CLAIM_NAME, String.class))
+                ERole.valueOf(claims.get(Constants.USER_ROLE_CLAIM_NAME, String.class)),
+                claims.getId(),
+                claims.getIssuedAt() == null ? null : claims.getIssuedAt().getTime()
         );
 
         // 인증 전 객체
@@ -78,8 +84,7 @@ public class JwtFilter extends OncePerRequestFilter {
 
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) throws ServletException {
-        String path = request.getRequestURI();
-        return Arrays.stream(Constants.NO_NEED_AUTH_URLS).anyMatch(path::startsWith);
+        return publicRouteMatcher.matches(request);
     }
 
 }
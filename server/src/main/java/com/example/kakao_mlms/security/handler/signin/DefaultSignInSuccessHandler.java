@@ -5,6 +5,7 @@ import com.example.kakao_mlms.domain.type.ERole;
 import com.example.kakao_mlms.dto.response.JwtTokenDto;
 import com.example.kakao_mlms.repository.UserRepository;
 import com.example.kakao_mlms.security.CustomUserDetails;
+import com.example.kakao_mlms.service.RefreshTokenService;
 import com.example.kakao_mlms.util.CookieUtil;
 import com.example.kakao_mlms.util.JwtUtil;
 import jakarta.servlet.ServletException;
@@ -35,6 +36,7 @@ import java.util.Optional;
 public class DefaultSignInSuccessHandler implements AuthenticationSuccessHandler {
     private final UserRepository userRepository;
     private final JwtUtil jwtUtil;
+    private final RefreshTokenService refreshTokenService;
 
     @Value("${after-login.default-success}")
     private String LOGIN_URL;
@@ -48,8 +50,9 @@ public class DefaultSignInSuccessHandler implements AuthenticationSuccessHandler
 
         // JWT Token 발급
 
-        JwtTokenDto jwtTokenDto = jwtUtil.generateTokens(userPrincipal.getId(), userPrincipal.getRole());
-        userRepository.updateRefreshTokenAndLoginStatus(userPrincipal.getId(), jwtTokenDto.getRefreshToken(), true);
+        JwtTokenDto jwtTokenDto = refreshTokenService.issue(userPrincipal.getId(), userPrincipal.getRole());
+        //Refresh Token 은 refresh_tokens 테이블에 해시로만 저장
+        userRepository.updateRefreshTokenAndLoginStatus(userPrincipal.getId(), null, true);
         String nickname = userRepository.findById(userPrincipal.getId())
                 .map(user -> StringUtils.hasText(user.getNickname()) ? user.getNickname() : user.getSerialId())
                 .orElseThrow();
@@ -5,6 +5,7 @@ import com.example.kakao_mlms.domain.type.ERole;
 import com.example.kakao_mlms.dto.response.JwtTokenDto;
 import com.example.kakao_mlms.repository.UserRepository;
 import com.example.kakao_mlms.security.CustomUserDetails;
+import com.example.kakao_mlms.service.RefreshTokenService;
 import com.example.kakao_mlms.util.CookieUtil;
 import com.example.kakao_mlms.util.JwtUtil;
 import jakarta.servlet.http.HttpServletRequest;
@@ -25,6 +26,7 @@ import java.nio.charset.StandardCharsets;
 @RequiredArgsConstructor
 public class OAuth2LoginSuccessHandler implements AuthenticationSuccessHandler {
     private final JwtUtil jwtUtil;
+    private final RefreshTokenService refreshTokenService;
     private final UserRepository userRepository;
 
     @Value("${after-login.oauth2-success}")
@@ -38,8 +40,9 @@ public class OAuth2LoginSuccessHandler implements AuthenticationSuccessHandler {
     public void onAuthenticationSuccess(HttpServletRequest request, HttpServletResponse response, Authentication authentication) throws IOException {
         CustomUserDetails userPrincipal = (CustomUserDetails) authentication.getPrincipal();
 
-        JwtTokenDto jwtTokenDto = jwtUtil.generateTokens(userPrincipal.getId(), userPrincipal.getRole());
-        userRepository.updateRefreshTokenAndLoginStatus(userPrincipal.getId(), jwtTokenDto.getRefreshToken(), true);
+        JwtTokenDto jwtTokenDto = refreshTokenService.issue(userPrincipal.getId(), userPrincipal.getRole());
+        //Refresh Token 은 refresh_tokens 테이블에 해시로만 저장
+        userRepository.updateRefreshTokenAndLoginStatus(userPrincipal.getId(), null, true);
         String nickname = userRepository.findById(userPrincipal.getId()).map(User::getNickname).orElse("");
 
         CookieUtil.addSecureCookie(response, "refreshToken", jwtTokenDto.getRefreshToken(), jwtUtil.getWebRefreshTokenExpirationSecond());
@@ -1,16 +1,22 @@
 package com.example.kakao_mlms.security.handler.signout;
 
 import com.example.kakao_mlms.constant.Constants;
+import com.example.kakao_mlms.event.UserPrincipalChangedEvent;
 import com.example.kakao_mlms.exception.CommonException;
 import com.example.kakao_mlms.exception.ErrorCode;
 import com.example.kakao_mlms.repository.UserRepository;
 import com.example.kakao_mlms.security.CustomUserDetails;
+import com.example.kakao_mlms.security.jwt.JwtDenyList;
 import com.example.kakao_mlms.security.service.KakaoLogoutService;
+import com.example.kakao_mlms.service.RefreshTokenService;
 import com.example.kakao_mlms.util.HeaderUtil;
+import com.example.kakao_mlms.util.JwtUtil;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.web.authentication.logout.LogoutHandler;
 import org.springframework.stereotype.Component;
@@ -23,6 +29,10 @@ import org.springframework.transaction.annotation.Transactional;
 public class CustomSignOutProcessHandler implements LogoutHandler {
     private final UserRepository userRepository;
     private final KakaoLogoutService kakaoLogoutService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JwtUtil jwtUtil;
+    private final JwtDenyList jwtDenyList;
+    private final RefreshTokenService refreshTokenService;
 
     @Override
     @Transactional
@@ -40,5 +50,11 @@ public class CustomSignOutProcessHandler implements LogoutHandler {
         //kakaoLogoutService.logoutFromKakao(token);
 
         userRepository.updateRefreshTokenAndLoginStatus(userPrincipal.getId(), null, false);
+        refreshTokenService.revokeAll(userPrincipal.getId());
+        eventPublisher.publishEvent(new UserPrincipalChangedEvent(userPrincipal.getId()));
+
+        //Access Token 만료 전까지 재사용 차단
+        Claims claims = jwtUtil.validateToken(token);
+        jwtDenyList.revokeToken(claims.getId(), claims.getExpiration());
     }
 }
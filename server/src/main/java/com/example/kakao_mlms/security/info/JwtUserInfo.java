@@ -2,6 +2,7 @@ package com.example.kakao_mlms.security.info;
 
 import com.example.kakao_mlms.domain.type.ERole;
 
-public record JwtUserInfo(Long id, ERole role) {
+// tokenId(jti), issuedAt(iat, epoch ms) 는 JwtDenyList 폐기 여부 판단에 사용
+public record JwtUserInfo(Long id, ERole role, String tokenId, Long issuedAt) {
 
 }
@@ -0,0 +1,98 @@
+package com.example.kakao_mlms.security.jwt;
+
+import com.example.kakao_mlms.domain.type.ERole;
+import com.example.kakao_mlms.security.info.JwtUserInfo;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 만료 전에 폐기된 Access Token 목록 (메모리)
+ * - 로그아웃 : 해당 토큰의 jti 를 토큰 만료 시각까지 보관
+ * - 회원탈퇴 : 해당 유저에게 탈퇴 시점 이전에 발급된 모든 토큰을 거부
+ * - 권한 변경 : 해당 유저의 이전 권한으로 발급된 토큰을 거부
+ * 토큰 자체가 만료되는 시각에 Caffeine 이 항목을 만료시키므로 등록 시점에 전체를 훑지 않음
+ */
+@Slf4j
+@Component
+public class JwtDenyList {
+    // jti -> 토큰 만료 시각(epoch ms)
+    private final Cache<String, Long> revokedTokens;
+    // userId -> 폐기 시각(epoch ms)
+    private final Cache<Long, Long> revokedUsers;
+    // userId -> 더 이상 유효하지 않은 이전 권한
+    private final Cache<Long, ERole> revokedRoles;
+
+    public JwtDenyList(@Value("${jwt.access-token-expire-period}") Integer accessTokenExpiredPeriod) {
+        Duration accessTokenLifetime = Duration.ofSeconds(accessTokenExpiredPeriod);
+        this.revokedTokens = Caffeine.newBuilder()
+                .expireAfter(new TokenExpiry())
+                .build();
+        this.revokedUsers = Caffeine.newBuilder()
+                .expireAfterWrite(accessTokenLifetime)
+                .build();
+        this.revokedRoles = Caffeine.newBuilder()
+                .expireAfterWrite(accessTokenLifetime)
+                .build();
+    }
+
+    public void revokeToken(final String tokenId, final Date expiration) {
+        if (tokenId == null || expiration == null) {
+            return;
+        }
+        revokedTokens.put(tokenId, expiration.getTime());
+    }
+
+    public void revokeUser(final Long userId) {
+        if (userId == null) {
+            return;
+        }
+        revokedUsers.put(userId, System.currentTimeMillis());
+    }
+
+    // 같은 초에 새 권한으로 재발급한 토큰은 허용해야 하므로 발급 시각 대신 권한으로 구분
+    public void revokeRole(final Long userId, final ERole role) {
+        if (userId == null || role == null) {
+            return;
+        }
+        revokedRoles.put(userId, role);
+    }
+
+    public boolean isRevoked(final JwtUserInfo userInfo) {
+        if (userInfo.tokenId() != null && revokedTokens.getIfPresent(userInfo.tokenId()) != null) {
+            return true;
+        }
+
+        if (userInfo.role() != null && userInfo.role() == revokedRoles.getIfPresent(userInfo.id())) {
+            return true;
+        }
+
+        Long revokedAt = revokedUsers.getIfPresent(userInfo.id());
+        // iat 는 초 단위로 저장되므로 같은 초에 발급된 토큰도 폐기 대상
+        return revokedAt != null && (userInfo.issuedAt() == null || userInfo.issuedAt() <= revokedAt);
+    }
+
+    private static class TokenExpiry implements Expiry<String, Long> {
+        @Override
+        public long expireAfterCreate(String tokenId, Long expiration, long currentTime) {
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(expiration - System.currentTimeMillis(), 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String tokenId, Long expiration, long currentTime, long currentDuration) {
+            return expireAfterCreate(tokenId, expiration, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String tokenId, Long expiration, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
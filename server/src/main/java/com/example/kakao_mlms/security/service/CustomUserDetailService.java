@@ -1,5 +1,6 @@
 package com.example.kakao_mlms.security.service;
 
+import com.example.kakao_mlms.cache.UserPrincipalCache;
 import com.example.kakao_mlms.exception.CommonException;
 import com.example.kakao_mlms.exception.ErrorCode;
 import com.example.kakao_mlms.repository.UserRepository;
@@ -16,6 +17,7 @@ import org.springframework.stereotype.Service;
 @Slf4j
 public class CustomUserDetailService implements UserDetailsService {
     private final UserRepository userRepository;
+    private final UserPrincipalCache userPrincipalCache;
 
     @Override
     public UserDetails loadUserByUsername(String username) {
@@ -27,9 +29,11 @@ public class CustomUserDetailService implements UserDetailsService {
     }
 
     public UserDetails loadUserById(Long userId) throws CommonException {
-        UserRepository.UserSecurityForm user = userRepository.findByIdAndIsLoginAndRefreshTokenIsNotNull(userId, true)
-                .orElseThrow(() -> new UsernameNotFoundException("Not Found UserId"));
+        return userPrincipalCache.get(userId, id -> {
+            UserRepository.UserSecurityForm user = userRepository.findByIdAndIsLogin(id, true)
+                    .orElseThrow(() -> new UsernameNotFoundException("Not Found UserId"));
 
-        return CustomUserDetails.create(user);
+            return CustomUserDetails.create(user);
+        });
     }
 }
\ No newline at end of file
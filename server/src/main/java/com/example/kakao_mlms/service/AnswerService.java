@@ -3,7 +3,7 @@ package com.example.kakao_mlms.service;
 import com.example.kakao_mlms.domain.Answer;
 import com.example.kakao_mlms.domain.Qna;
 import com.example.kakao_mlms.domain.User;
-import com.example.kakao_mlms.dto.AnswerDto;
+import com.example.kakao_mlms.event.QnaChangedEvent;
 import com.example.kakao_mlms.exception.CommonException;
 import com.example.kakao_mlms.exception.ErrorCode;
 import com.example.kakao_mlms.repository.AnswerRepository;
@@ -13,6 +13,7 @@ import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.Optional;
@@ -25,6 +26,7 @@ public class AnswerService {
     private final UserRepository userRepository;
     private final QnaRepository qnaRepository;
     private final AnswerRepository answerRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
 
     public void replyQna(Long adminId, Long qnaId, String content) {
@@ -39,13 +41,10 @@ public class AnswerService {
             answerRepository.save(answer);
             qna.reply();
         }
+        eventPublisher.publishEvent(QnaChangedEvent.of(qnaId));
 
     }
 
-    public AnswerDto getAnswer(Long qnaId) {
-        return answerRepository.findByQna_Id(qnaId).map(AnswerDto::from).orElse(null);
-    }
-
     public Boolean deleteAnswer(Long adminId, Long qnaId) {
         userRepository
                 .findById(adminId)
@@ -58,6 +57,7 @@ public class AnswerService {
         qna.deleteAnswer();
 
         answerRepository.deleteByQna_Id(qnaId);
+        eventPublisher.publishEvent(QnaChangedEvent.of(qnaId));
 
         return Boolean.TRUE;
     }
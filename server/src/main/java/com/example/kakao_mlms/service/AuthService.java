@@ -7,10 +7,16 @@ import com.example.kakao_mlms.dto.request.UserPasswordDto;
 import com.example.kakao_mlms.dto.request.UserResisterDto;
 import com.example.kakao_mlms.dto.request.UserSignUpDto;
 import com.example.kakao_mlms.dto.response.JwtTokenDto;
+import com.example.kakao_mlms.event.QnaChangedEvent;
+import com.example.kakao_mlms.event.UserPrincipalChangedEvent;
+import com.example.kakao_mlms.event.UserProfileChangedEvent;
 import com.example.kakao_mlms.exception.CommonException;
 import com.example.kakao_mlms.exception.ErrorCode;
+import com.example.kakao_mlms.repository.AnswerRepository;
 import com.example.kakao_mlms.repository.QnaRepository;
+import com.example.kakao_mlms.repository.ReviewHistoryRepository;
 import com.example.kakao_mlms.repository.UserRepository;
+import com.example.kakao_mlms.security.jwt.JwtDenyList;
 import com.example.kakao_mlms.util.CookieUtil;
 import com.example.kakao_mlms.util.JwtUtil;
 import jakarta.servlet.http.Cookie;
@@ -19,11 +25,13 @@ import jakarta.servlet.http.HttpServletResponse;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.util.Objects;
 
 @Slf4j
 @Service
@@ -33,7 +41,12 @@ public class AuthService {
     private final JwtUtil jwtUtil;
     private final UserRepository userRepository;
     private final QnaRepository qnaRepository;
+    private final AnswerRepository answerRepository;
+    private final ReviewHistoryRepository reviewHistoryRepository;
     private final PasswordEncoder passwordEncoder;
+    private final JwtDenyList jwtDenyList;
+    private final RefreshTokenService refreshTokenService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public Boolean resisterUser(UserSignUpDto requestDto) {
         Boolean result = userRepository.existsBySerialIdOrNickname(requestDto.serialId(), requestDto.nickname());
@@ -48,19 +61,27 @@ public class AuthService {
 
     @Transactional
     public JwtTokenDto reissue(final String refreshToken) {
-        return jwtUtil.reissue(refreshToken);
+        return refreshTokenService.reissue(refreshToken);
     }
 
     public Boolean withdrawUser(Long id, Long userId) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new CommonException(ErrorCode.NOT_FOUND_USER));
 
-        if (!(id == userId || user.getRole() == ERole.ADMIN))
+        if (!(Objects.equals(id, userId) || user.getRole() == ERole.ADMIN))
             throw new CommonException(ErrorCode.ACCESS_DENIED_ERROR);
+        //관리자가 다른 사용자를 탈퇴시키는 경우 삭제 대상은 요청자가 아닌 path 의 사용자
+        User target = Objects.equals(id, userId) ? user : userRepository.findById(userId)
+                .orElseThrow(() -> new CommonException(ErrorCode.NOT_FOUND_USER));
         //Qna는 삭제하지 않고 기본 유저 id로 전환
-        qnaRepository.updateQnaByUserId(userId);
-
-        userRepository.delete(user);
+        qnaRepository.updateQnaByUserId(target.getId());
+        eventPublisher.publishEvent(QnaChangedEvent.all());
+        reviewHistoryRepository.deleteAllByUserId(target.getId());
+
+        userRepository.delete(target);
+        eventPublisher.publishEvent(new UserPrincipalChangedEvent(target.getId()));
+        jwtDenyList.revokeUser(target.getId());
+        refreshTokenService.revokeAll(target.getId());
         return Boolean.TRUE;
     }
 
@@ -71,8 +92,17 @@ public class AuthService {
         if(userRepository.existsByNickname(requestDto.nickname()))
             throw new CommonException(ErrorCode.DUPLICATION_NICKNAME);
 
+        ERole previousRole = user.getRole();
         user.register(requestDto.nickname());
-        JwtTokenDto tokenDto = jwtUtil.generateTokens(userId, ERole.USER);
+        increaseAuthoredVersions(userId);
+        //GUEST -> USER 권한 변경
+        eventPublisher.publishEvent(new UserPrincipalChangedEvent(userId));
+        //stateless 모드에서는 DB 를 읽지 않으므로 GUEST 권한 Access Token 을 만료 전까지 거부
+        if (previousRole != user.getRole())
+            jwtDenyList.revokeRole(userId, previousRole);
+        //GUEST 권한으로 발급된 Refresh Token 은 더 이상 사용하지 않음
+        refreshTokenService.revokeAll(userId);
+        JwtTokenDto tokenDto = refreshTokenService.issue(userId, ERole.USER);
 
         CookieUtil.addSecureCookie(response, "refreshToken", tokenDto.getRefreshToken(), jwtUtil.getWebRefreshTokenExpirationSecond());
         CookieUtil.addCookie(response, "accessToken", tokenDto.getAccessToken());
@@ -88,10 +118,18 @@ public class AuthService {
             throw new CommonException(ErrorCode.DUPLICATION_NICKNAME);
 
         user.updateInfo(requestDto.nickname());
+        increaseAuthoredVersions(userId);
 
         return Boolean.TRUE;
     }
 
+    //QnA 상세 응답에 작성자 닉네임이 포함되므로 닉네임 변경 시 작성한 QnA/답변의 ETag 와 상세 캐시를 무효화
+    private void increaseAuthoredVersions(Long userId) {
+        qnaRepository.increaseVersionByUserId(userId);
+        answerRepository.increaseVersionByUserId(userId);
+        eventPublisher.publishEvent(new UserProfileChangedEvent(userId));
+    }
+
     public String getRefreshToken(HttpServletRequest request) {
         String refreshToken = null;
         if (request.getCookies() != null) {
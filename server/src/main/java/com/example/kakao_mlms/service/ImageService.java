@@ -1,32 +1,36 @@
 package com.example.kakao_mlms.service;
 
+import com.example.kakao_mlms.domain.Image;
 import com.example.kakao_mlms.domain.type.Extension;
+import com.example.kakao_mlms.domain.type.ImageVariant;
 import com.example.kakao_mlms.dto.ImageDto;
+import com.example.kakao_mlms.event.QnaChangedEvent;
+import com.example.kakao_mlms.exception.CommonException;
+import com.example.kakao_mlms.exception.ErrorCode;
+import com.example.kakao_mlms.repository.ImageRepository;
+import com.example.kakao_mlms.repository.QnaRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.FileUrlResource;
-import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
-import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.io.File;
 import java.io.IOException;
-import java.net.MalformedURLException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.regex.Pattern;
 
 @Slf4j
 @Service
@@ -34,6 +38,13 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class ImageService {
 
+    private static final Pattern STORE_FILE_NAME = Pattern.compile(
+            "[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}(_(thumb|medium))?\\.(jpe?g|png|webp)", Pattern.CASE_INSENSITIVE);
+
+    private final ImageRepository imageRepository;
+    private final QnaRepository qnaRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
     @Value("${file.upload-dir}")
     private String uploadDir;
 
@@ -78,7 +89,43 @@ public class ImageService {
         return false;
     }
 
-    public Resource downloadImage(String storeFileName) throws MalformedURLException {
-        return new FileUrlResource(uploadDir + storeFileName);
+    /**
+     * 변환본 파일명을 Image 에 기록하고, QnA version 을 올려 상세 캐시와 ETag 를 갱신
+     * 변환 중 QnA 가 수정/삭제되어 기록할 Image 가 없으면 변환본 파일을 삭제
+     * @param variants 원본 저장 파일명 -> 변환본 파일명
+     */
+    public void recordVariants(Long qnaId, Map<String, Map<ImageVariant, String>> variants) {
+        Map<String, Map<ImageVariant, String>> remaining = new HashMap<>(variants);
+        List<Image> images = imageRepository.findByUuidNameIn(variants.keySet());
+        for (Image image : images) {
+            Map<ImageVariant, String> names = remaining.remove(image.getUuidName());
+            image.updateVariants(names.get(ImageVariant.THUMBNAIL), names.get(ImageVariant.MEDIUM));
+        }
+        remaining.values().forEach(names -> names.values().forEach(this::deleteImage));
+
+        if (!images.isEmpty()) {
+            qnaRepository.findForModifyById(qnaId);
+            eventPublisher.publishEvent(QnaChangedEvent.of(qnaId));
+        }
+    }
+
+    /**
+     * 저장 파일명(UUID[_변환본].확장자) 형식만 허용해 경로 조작(../, 절대 경로 등)을 파일 시스템 접근 전에 차단
+     * @return 실제 파일 경로
+     */
+    public Path resolveImage(String storeFileName) {
+        if (storeFileName == null || !STORE_FILE_NAME.matcher(storeFileName).matches()) {
+            throw new CommonException(ErrorCode.INVALID_FILE_NAME);
+        }
+
+        try {
+            Path file = Paths.get(uploadDir).resolve(storeFileName).toRealPath();
+            if (!Files.isRegularFile(file)) {
+                throw new CommonException(ErrorCode.NOT_FOUND_FILE);
+            }
+            return file;
+        } catch (IOException e) {
+            throw new CommonException(ErrorCode.NOT_FOUND_FILE);
+        }
     }
 }
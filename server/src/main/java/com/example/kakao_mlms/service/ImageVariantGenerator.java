@@ -0,0 +1,174 @@
+package com.example.kakao_mlms.service;
+
+import com.example.kakao_mlms.domain.type.ImageVariant;
+import com.example.kakao_mlms.event.ImagesStoredEvent;
+import jakarta.persistence.OptimisticLockException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 업로드 이미지 변환본(ImageVariant) 생성
+ * - QnA 저장 커밋 후 비동기로 원본 옆에 변환본 파일을 만들고 Image 에 기록
+ * - JDK ImageIO 만 사용, WebP 는 JDK 에 writer 가 없어 투명도가 있으면 PNG, 없으면 JPEG 로 저장
+ * - 원본보다 큰 변환본은 만들지 않고, ImageIO 가 읽지 못하는 원본(WebP, CMYK JPEG 등) 은 건너뜀
+ * - 기록이 QnA 수정과 겹쳐 실패하면 다시 시도하고, 끝내 기록하지 못하면 만든 변환본 파일을 삭제
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageVariantGenerator {
+    private static final float JPEG_QUALITY = 0.8f;
+    private static final int RECORD_ATTEMPTS = 3;
+
+    private final ImageService imageService;
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onImagesStored(ImagesStoredEvent event) {
+        Map<String, Map<ImageVariant, String>> variants = new HashMap<>();
+        for (String storeFileName : event.storeFileNames()) {
+            try {
+                Map<ImageVariant, String> names = generate(imageService.resolveImage(storeFileName));
+                if (!names.isEmpty()) {
+                    variants.put(storeFileName, names);
+                }
+            } catch (IOException | RuntimeException e) {
+                log.error("이미지 변환 실패 : {}", storeFileName, e);
+            }
+        }
+
+        if (!variants.isEmpty()) {
+            record(event.qnaId(), variants);
+        }
+    }
+
+    private void record(Long qnaId, Map<String, Map<ImageVariant, String>> variants) {
+        RuntimeException failure = null;
+        for (int attempt = 0; attempt < RECORD_ATTEMPTS; attempt++) {
+            try {
+                imageService.recordVariants(qnaId, variants);
+                return;
+            } catch (OptimisticLockingFailureException | OptimisticLockException e) {
+                // 같은 QnA 를 동시에 수정한 경우, 다시 읽으면 수정 결과를 기준으로 기록
+                failure = e;
+            } catch (RuntimeException e) {
+                failure = e;
+                break;
+            }
+        }
+
+        // 가리키는 Image 가 없는 변환본 파일이 남지 않도록 삭제
+        log.error("이미지 변환본 기록 실패 : {}", qnaId, failure);
+        variants.values().forEach(names -> names.values().forEach(imageService::deleteImage));
+    }
+
+    /**
+     * @return 생성한 변환본 파일명 (원본과 같은 디렉토리)
+     */
+    Map<ImageVariant, String> generate(Path original) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(original.toFile())) {
+            Iterator<ImageReader> readers = input == null ? null : ImageIO.getImageReaders(input);
+            if (readers == null || !readers.hasNext()) {
+                return Map.of();
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                List<ImageVariant> targets = Arrays.stream(ImageVariant.values())
+                        .filter(variant -> variant.getWidth() < width)
+                        .toList();
+                if (targets.isEmpty()) {
+                    return Map.of();
+                }
+
+                // 큰 원본은 디코딩 단계에서 줄여 읽어 메모리 사용량을 낮춤 (가장 큰 변환본 너비의 2배 이상 유지)
+                int maxTargetWidth = targets.stream().mapToInt(ImageVariant::getWidth).max().getAsInt();
+                int subsampling = Math.max(1, width / (maxTargetWidth * 2));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                BufferedImage source = reader.read(0, param);
+
+                boolean alpha = source.getColorModel().hasAlpha();
+                String format = alpha ? "png" : "jpg";
+                Map<ImageVariant, String> names = new EnumMap<>(ImageVariant.class);
+                for (ImageVariant variant : targets) {
+                    String name = variant.fileNameOf(original.getFileName().toString(), format);
+                    write(resize(source, variant.getWidth(), alpha), format, original.resolveSibling(name));
+                    names.put(variant, name);
+                }
+                return names;
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 한 번에 크게 줄이면 계단 현상이 생기므로 절반씩 줄인 뒤 마지막에 목표 크기로 맞춤
+    private static BufferedImage resize(BufferedImage source, int targetWidth, boolean alpha) {
+        int targetHeight = Math.max(1, Math.round((float) source.getHeight() * targetWidth / source.getWidth()));
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+
+            BufferedImage next = new BufferedImage(width, height,
+                    alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = next.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.drawImage(current, 0, 0, width, height, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = next;
+        } while (width != targetWidth || height != targetHeight);
+        return current;
+    }
+
+    private static void write(BufferedImage image, String format, Path target) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName(format).next();
+        // FileImageOutputStream 은 기존 파일을 잘라내지 않음
+        Files.deleteIfExists(target);
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(target.toFile())) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if ("jpg".equals(format)) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(JPEG_QUALITY);
+            }
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+}
@@ -1,33 +1,52 @@
 package com.example.kakao_mlms.service;
 
+import com.example.kakao_mlms.cache.PageCountCache;
+import com.example.kakao_mlms.cache.QnaDetailCache;
 import com.example.kakao_mlms.domain.Answer;
 import com.example.kakao_mlms.domain.Image;
 import com.example.kakao_mlms.domain.Qna;
 import com.example.kakao_mlms.domain.User;
 import com.example.kakao_mlms.domain.type.Category;
 import com.example.kakao_mlms.domain.type.ERole;
+import com.example.kakao_mlms.dto.AnswerDto;
 import com.example.kakao_mlms.dto.ImageDto;
 import com.example.kakao_mlms.dto.PageInfo;
 import com.example.kakao_mlms.dto.QnaDto;
 import com.example.kakao_mlms.dto.QnaDtoWithImages;
+import com.example.kakao_mlms.dto.QnaSearchCondition;
+import com.example.kakao_mlms.dto.QnaSummaryDto;
+import com.example.kakao_mlms.dto.QnaWithAnswerDto;
 import com.example.kakao_mlms.dto.response.AllDto;
+import com.example.kakao_mlms.dto.response.CursorPage;
 import com.example.kakao_mlms.dto.response.QnaListDto;
+import com.example.kakao_mlms.event.ImagesStoredEvent;
+import com.example.kakao_mlms.event.QnaChangedEvent;
 import com.example.kakao_mlms.exception.CommonException;
 import com.example.kakao_mlms.exception.ErrorCode;
 import com.example.kakao_mlms.repository.AnswerRepository;
 import com.example.kakao_mlms.repository.QnaRepository;
 import com.example.kakao_mlms.repository.UserRepository;
+import com.example.kakao_mlms.search.QnaSearchIndex;
+import com.example.kakao_mlms.util.CursorUtil;
+import com.example.kakao_mlms.util.ETagUtil;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -38,6 +57,13 @@ public class QnaService {
     private final UserRepository userRepository;
     private final ImageService imageService;
     private final AnswerRepository answerRepository;
+    private final QnaSearchIndex qnaSearchIndex;
+    private final QnaDetailCache qnaDetailCache;
+    private final PageCountCache pageCountCache;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${qna.list.max-snippet-length:200}")
+    private Integer maxSnippetLength;
 
     public void createQna(QnaDto qnaDto, List<ImageDto> imageDtos) {
         Qna qna = qnaDto.toEntity();
@@ -48,17 +74,55 @@ public class QnaService {
             qna.addImages(images);
         }
         qnaRepository.save(qna);
+        eventPublisher.publishEvent(QnaChangedEvent.of(qna.getId()));
+        publishImagesStored(qna.getId(), imageDtos);
+    }
+
+    /**
+     * 블라인드 QnA 는 작성자 본인 또는 관리자(admin = true) 만 조회 가능
+     * 상세는 조회자와 무관하게 캐싱하고, 블라인드 접근 검사는 캐시 값에 대해 수행
+     */
+    @Transactional(readOnly = true)
+    public QnaWithAnswerDto getQnaDetail(Long qnaId, Long viewerId, boolean admin) {
+        QnaWithAnswerDto detail = qnaDetailCache.get(qnaId, this::loadQnaDetail);
+
+        QnaDtoWithImages qna = detail.qna();
+        if (!admin && Boolean.TRUE.equals(qna.isBlind()) && !Objects.equals(qna.user().id(), viewerId)) {
+            throw new CommonException(ErrorCode.BLIND_QNA);
+        }
+        return detail;
     }
 
+    /**
+     * 상세 조회 전 If-None-Match 비교용 ETag, 상세를 읽지 않고 version 만 조회
+     * QnA 가 없거나 조회 권한이 없으면 null (getQnaDetail 에서 예외 처리)
+     */
     @Transactional(readOnly = true)
-    public QnaDtoWithImages getQnaWithImages(Long qnaId) {
-        return qnaRepository.findQnaById(qnaId)
-                .map(QnaDtoWithImages::from)
-                .orElseThrow(() -> new CommonException(ErrorCode.NOT_FOUND_QNA));
+    public String getQnaDetailETag(Long qnaId, Long viewerId, boolean admin) {
+        return qnaRepository.findVersionById(qnaId)
+                .filter(version -> admin || !Boolean.TRUE.equals(version.getIsBlind())
+                        || Objects.equals(version.getUserId(), viewerId))
+                .map(version -> ETagUtil.qnaDetail(qnaId, version.getVersion(), version.getAnswerVersion(),
+                        Objects.equals(version.getUserId(), viewerId)))
+                .orElse(null);
+    }
+
+    private QnaWithAnswerDto loadQnaDetail(Long qnaId) {
+        List<QnaRepository.QnaDetailRow> rows = qnaRepository.findDetail(qnaId);
+        if (rows.isEmpty()) {
+            throw new CommonException(ErrorCode.NOT_FOUND_QNA);
+        }
+
+        QnaRepository.QnaDetailRow row = rows.get(0);
+        Answer answer = row.getAnswer();
+        return new QnaWithAnswerDto(QnaDtoWithImages.from(row.getQna()),
+                answer == null ? null : AnswerDto.from(answer),
+                row.getQna().getVersion(),
+                answer == null ? null : answer.getVersion());
     }
 
     public void updateQna(Long userId, QnaDto qnaDto, List<ImageDto> imageDtos) {
-        Qna qna = qnaRepository.findQnaById(qnaDto.id())
+        Qna qna = qnaRepository.findForModifyById(qnaDto.id())
                 .orElseThrow(EntityNotFoundException::new);
         List<Image> qnaImages = qna.getImages();
         User user = userRepository.findById(userId)
@@ -69,8 +133,9 @@ public class QnaService {
 
             if(!qnaImages.isEmpty()) {
                 qnaImages.stream()
-                        .filter(image -> !imageService.deleteImage(image.getUuidName()))
-                        .forEach(failImage -> log.error("이미지 삭제 실패 : {}", failImage.getUuidName()));
+                        .flatMap(image -> image.getStoreFileNames().stream())
+                        .filter(storeFileName -> !imageService.deleteImage(storeFileName))
+                        .forEach(failFileName -> log.error("이미지 삭제 실패 : {}", failFileName));
             }
 
             if(imageDtos != null) {
@@ -79,9 +144,16 @@ public class QnaService {
                         .toList();
                 qna.addImages(images);
             }
+            eventPublisher.publishEvent(QnaChangedEvent.of(qna.getId()));
+            publishImagesStored(qna.getId(), imageDtos);
         }
+    }
 
-
+    // 커밋 후 썸네일 등 변환본 생성 (ImageVariantGenerator)
+    private void publishImagesStored(Long qnaId, List<ImageDto> imageDtos) {
+        if (imageDtos != null && !imageDtos.isEmpty()) {
+            eventPublisher.publishEvent(new ImagesStoredEvent(qnaId, imageDtos.stream().map(ImageDto::uuidName).toList()));
+        }
     }
 
     public AllDto<Object> readQnaList(String title, Pageable pageable) {
@@ -130,55 +202,119 @@ public class QnaService {
 
         answerRepository.deleteByQna_Id(qnaId);
         qnaRepository.delete(qna);
+        eventPublisher.publishEvent(QnaChangedEvent.of(qnaId));
 
         return Boolean.TRUE;
     }
 
     @Transactional(readOnly = true)
-    public Page<QnaDto> searchQnas(String title, Category category, Boolean notAnswered, Pageable pageable) {
-        if (notAnswered) {
-            if (Objects.isNull(category) && !StringUtils.hasText(title)) {
-                return qnaRepository.findByIsAnswer(false, pageable).map(QnaDto::from);
-            } else if (Objects.isNull(category)) {
-                return qnaRepository.findByIsAnswerAndTitle(false, title, pageable).map(QnaDto::from);
-            } else if (StringUtils.hasText(title)) {
-                return qnaRepository.findByIsAnswerAndTitleAndCategory(false, title, category, pageable).map(QnaDto::from);
-            } else {
-                return qnaRepository.findByIsAnswerAndCategory(false, category, pageable).map(QnaDto::from);
-            }
-        } else {
-            return getQnaDtos(title, category, pageable);
-        }
+    public Page<QnaSummaryDto> searchQnas(String title, Category category, Boolean notAnswered,
+                                          int snippetLength, Pageable pageable) {
+        QnaSearchCondition condition = QnaSearchCondition.builder()
+                .title(title)
+                .category(category)
+                .isAnswer(Boolean.TRUE.equals(notAnswered) ? Boolean.FALSE : null)
+                .build();
+        return search(condition, clampSnippetLength(snippetLength), pageable);
+    }
 
+    @Transactional(readOnly = true)
+    public Page<QnaSummaryDto> searchQnasByUser(String title, Long userId, Category category, Boolean mine,
+                                                int snippetLength, Pageable pageable) {
+        QnaSearchCondition condition = QnaSearchCondition.builder()
+                .title(title)
+                .category(category)
+                .userId(Boolean.TRUE.equals(mine) ? userId : null)
+                .build();
+        return search(condition, clampSnippetLength(snippetLength), pageable);
     }
 
     @Transactional(readOnly = true)
-    public Page<QnaDto> searchQnasByUser(String title, Long userId, Category category, Boolean mine, Pageable pageable) {
-        if (mine) {
-            if (Objects.isNull(category) && !StringUtils.hasText(title)) {
-                return qnaRepository.findByUserId(userId, pageable).map(QnaDto::from);
-            } else if (Objects.isNull(category)) {
-                return qnaRepository.findByUserIdAndTitle(userId, title, pageable).map(QnaDto::from);
-            } else if (StringUtils.hasText(title)) {
-                return qnaRepository.findByUserIdAndTitleAndCategory(userId, title, category, pageable).map(QnaDto::from);
-            } else {
-                return qnaRepository.findByUserIdAndCategory(userId, category, pageable).map(QnaDto::from);
-            }
-        } else {
-            return getQnaDtos(title, category, pageable);
+    public CursorPage<QnaSummaryDto> scrollQnas(String title, Category category, Boolean notAnswered,
+                                                String cursor, int size, boolean withTotal, int snippetLength) {
+        QnaSearchCondition condition = QnaSearchCondition.builder()
+                .title(title)
+                .category(category)
+                .isAnswer(Boolean.TRUE.equals(notAnswered) ? Boolean.FALSE : null)
+                .build();
+        return scroll(condition, clampSnippetLength(snippetLength), cursor, size, withTotal);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<QnaSummaryDto> scrollQnasByUser(String title, Long userId, Category category, Boolean mine,
+                                                      String cursor, int size, boolean withTotal, int snippetLength) {
+        QnaSearchCondition condition = QnaSearchCondition.builder()
+                .title(title)
+                .category(category)
+                .userId(Boolean.TRUE.equals(mine) ? userId : null)
+                .build();
+        return scroll(condition, clampSnippetLength(snippetLength), cursor, size, withTotal);
+    }
+
+    // 최신순(id 내림차순) 고정, 다음 페이지 존재 여부는 size + 1 개를 조회해 판단
+    private CursorPage<QnaSummaryDto> scroll(QnaSearchCondition condition, int snippetLength,
+                                             String cursor, int size, boolean withTotal) {
+        List<QnaSummaryDto> qnas = qnaRepository.searchAfter(condition, snippetLength, CursorUtil.decode(cursor), size + 1);
+
+        boolean hasNext = qnas.size() > size;
+        List<QnaSummaryDto> content = qnas.size() > size ? qnas.subList(0, size) : qnas;
+        String nextCursor = hasNext ? CursorUtil.encode(content.get(content.size() - 1).id()) : null;
+        // 페이지 목록(QnaRepositoryImpl.search) 과 같은 캐시/추정치를 사용
+        PageCountCache.PageCount total = withTotal
+                ? pageCountCache.count(PageCountCache.QNAS, condition.isEmpty() ? null : condition,
+                () -> qnaRepository.countMatching(condition))
+                : null;
+
+        return new CursorPage<>(content, nextCursor, hasNext,
+                total == null ? null : total.total(), total == null ? null : total.exact());
+    }
+
+    private Page<QnaSummaryDto> search(QnaSearchCondition condition, int snippetLength, Pageable pageable) {
+        QnaSearchIndex.Order order = indexOrder(pageable.getSort());
+        if (order != null && canUseSearchIndex(condition)) {
+            return searchByText(condition, order, snippetLength, pageable);
         }
+        return qnaRepository.search(condition, snippetLength, pageable);
+    }
+
+    private int clampSnippetLength(int snippetLength) {
+        return Math.min(Math.max(snippetLength, 0), maxSnippetLength);
+    }
+
+    // 색인에 없는 조건(블라인드, 작성일)이 있거나 색인이 LIKE 와 같은 결과를 낼 수 없는 검색어면 DB 검색
+    private boolean canUseSearchIndex(QnaSearchCondition condition) {
+        return StringUtils.hasText(condition.title())
+                && condition.isBlind() == null
+                && condition.createdFrom() == null
+                && condition.createdTo() == null
+                && qnaSearchIndex.isAvailable()
+                && qnaSearchIndex.supports(condition.title());
     }
 
-    private Page<QnaDto> getQnaDtos(String title, Category category, Pageable pageable) {
-        if (Objects.isNull(category) && !StringUtils.hasText(title)) {
-            return qnaRepository.findAll(pageable).map(QnaDto::from);
-        } else if (Objects.isNull(category)) {
-            return qnaRepository.findByTitle(title, pageable).map(QnaDto::from);
-        } else if (StringUtils.hasText(title)) {
-            return qnaRepository.findByTitleAndCategory(title, category, pageable).map(QnaDto::from);
-        } else {
-            return qnaRepository.findByCategory(category, pageable).map(QnaDto::from);
+    // 색인은 정렬 없음(관련도) 또는 id 단일 정렬만 지원, 그 외 정렬은 null (DB 검색)
+    private static QnaSearchIndex.Order indexOrder(Sort sort) {
+        if (sort.isUnsorted()) {
+            return QnaSearchIndex.Order.RELEVANCE;
         }
+        List<Sort.Order> orders = sort.toList();
+        if (orders.size() != 1 || !"id".equals(orders.get(0).getProperty())) {
+            return null;
+        }
+        return orders.get(0).isAscending() ? QnaSearchIndex.Order.ID_ASC : QnaSearchIndex.Order.ID_DESC;
     }
 
-}
\ No newline at end of file
+    // 전문 검색 색인에서 제목이 일치하는 id 를 요청한 순서로 받아 한 번에 조회한 뒤 색인 순서대로 정렬
+    private Page<QnaSummaryDto> searchByText(QnaSearchCondition condition, QnaSearchIndex.Order order,
+                                             int snippetLength, Pageable pageable) {
+        QnaSearchIndex.SearchHits hits = qnaSearchIndex.search(condition.title(), false, condition.userId(),
+                condition.category(), condition.isAnswer(), order, (int) pageable.getOffset(), pageable.getPageSize());
+        Map<Long, QnaSummaryDto> qnas = qnaRepository.findSummariesByIds(hits.ids(), snippetLength).stream()
+                .collect(Collectors.toMap(QnaSummaryDto::id, Function.identity()));
+
+        List<QnaSummaryDto> content = hits.ids().stream()
+                .map(qnas::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new PageImpl<>(content, pageable, hits.totalHits());
+    }
+}
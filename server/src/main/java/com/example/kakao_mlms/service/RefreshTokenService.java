@@ -0,0 +1,142 @@
+package com.example.kakao_mlms.service;
+
+import com.example.kakao_mlms.constant.Constants;
+import com.example.kakao_mlms.domain.RefreshToken;
+import com.example.kakao_mlms.domain.type.ERole;
+import com.example.kakao_mlms.dto.response.JwtTokenDto;
+import com.example.kakao_mlms.event.UserPrincipalChangedEvent;
+import com.example.kakao_mlms.exception.CommonException;
+import com.example.kakao_mlms.exception.ErrorCode;
+import com.example.kakao_mlms.repository.RefreshTokenRepository;
+import com.example.kakao_mlms.util.JwtUtil;
+import io.jsonwebtoken.Claims;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Refresh Token 발급/재발급
+ * users 테이블 대신 refresh_tokens 테이블에서 jti 로 조회하므로 재발급 시 users row 를 갱신하지 않음
+ * 이미 사용된 토큰이라도 grace 시간 안의 동시 요청(여러 탭, 모바일 재시도)은 같은 family 로 재발급 허용
+ * grace 이후 재사용은 탈취로 보고 family 전체 폐기
+ */
+@Slf4j
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class RefreshTokenService {
+    private final JwtUtil jwtUtil;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${jwt.refresh-token-grace-seconds:10}")
+    private Long refreshTokenGraceSeconds;
+
+    public JwtTokenDto issue(final Long userId, final ERole role) {
+        return issue(userId, role, UUID.randomUUID().toString());
+    }
+
+    public JwtTokenDto reissue(final String refreshToken) {
+        final Claims claims = jwtUtil.validateToken(refreshToken);
+
+        if (!Constants.REFRESH_TOKEN_TYPE.equals(claims.get(Constants.TOKEN_TYPE_CLAIM_NAME, String.class))) {
+            log.error("Invalid Token Type");
+            throw new CommonException(ErrorCode.INVALID_TOKEN_ERROR);
+        }
+
+        final Long id = Long.valueOf(claims.get(Constants.USER_ID_CLAIM_NAME).toString());
+        final ERole role = ERole.of(claims.get(Constants.USER_ROLE_CLAIM_NAME).toString());
+
+        final RefreshToken storedToken = refreshTokenRepository.findById(claims.getId())
+                .orElseThrow(() -> new CommonException(ErrorCode.INVALID_TOKEN_ERROR));
+
+        if (storedToken.getRevoked() || !Objects.equals(storedToken.getUserId(), id) || storedToken.getRole() != role
+                || !MessageDigest.isEqual(storedToken.getTokenHash().getBytes(StandardCharsets.US_ASCII),
+                hash(refreshToken).getBytes(StandardCharsets.US_ASCII))) {
+            log.error("Invalid Token");
+            throw new CommonException(ErrorCode.INVALID_TOKEN_ERROR);
+        }
+
+        final LocalDateTime now = LocalDateTime.now();
+
+        if (refreshTokenRepository.markRotated(storedToken.getId(), now) == 0) {
+            // 조회 이후 다른 요청이 먼저 사용했거나 폐기(로그아웃, 탈퇴, 재사용 감지)한 경우이므로 현재 상태를 다시 읽음
+            final RefreshToken currentToken = refreshTokenRepository.findById(storedToken.getId())
+                    .orElseThrow(() -> new CommonException(ErrorCode.INVALID_TOKEN_ERROR));
+
+            if (currentToken.getRevoked() || currentToken.getRotatedAt() == null) {
+                log.error("Revoked Token");
+                throw new CommonException(ErrorCode.INVALID_TOKEN_ERROR);
+            }
+
+            if (currentToken.getRotatedAt().plusSeconds(refreshTokenGraceSeconds).isBefore(now)) {
+                log.error("Refresh Token Reuse Detected : family = {}", storedToken.getFamilyId());
+                revokeFamily(storedToken.getFamilyId(), id);
+                throw new CommonException(ErrorCode.INVALID_TOKEN_ERROR);
+            }
+        }
+
+        return issue(id, role, storedToken.getFamilyId());
+    }
+
+    public void revokeAll(final Long userId) {
+        refreshTokenRepository.revokeAllByUserId(userId);
+    }
+
+    @Scheduled(cron = "${jwt.refresh-token-cleanup-cron:0 0 4 * * *}")
+    public void deleteExpiredTokens() {
+        int deleted = refreshTokenRepository.deleteExpired(LocalDateTime.now());
+        log.info("Expired Refresh Token 삭제 : {}", deleted);
+    }
+
+    // 예외로 재발급 트랜잭션이 롤백되어도 폐기와 Principal 캐시 무효화는 유지되도록 별도 트랜잭션에서 커밋
+    private void revokeFamily(final String familyId, final Long userId) {
+        final TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        transactionTemplate.executeWithoutResult(status -> {
+            refreshTokenRepository.revokeFamily(familyId);
+            eventPublisher.publishEvent(new UserPrincipalChangedEvent(userId));
+        });
+    }
+
+    private JwtTokenDto issue(final Long userId, final ERole role, final String familyId) {
+        final String tokenId = UUID.randomUUID().toString();
+        final JwtTokenDto jwtTokenDto = jwtUtil.generateTokens(userId, role, tokenId);
+
+        refreshTokenRepository.save(RefreshToken.builder()
+                .id(tokenId)
+                .familyId(familyId)
+                .userId(userId)
+                .role(role)
+                .tokenHash(hash(jwtTokenDto.getRefreshToken()))
+                .expiresAt(LocalDateTime.now().plusSeconds(jwtUtil.getRefreshTokenExpiredPeriod()))
+                .build());
+
+        return jwtTokenDto;
+    }
+
+    private static String hash(final String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.kakao_mlms.service;
+
+import com.example.kakao_mlms.client.MlReviewResult;
+import com.example.kakao_mlms.domain.ReviewHistory;
+import com.example.kakao_mlms.domain.ReviewTermStat;
+import com.example.kakao_mlms.dto.request.ReviewDto;
+import com.example.kakao_mlms.dto.response.PopularTermResponse;
+import com.example.kakao_mlms.dto.response.ReviewDtoResponse;
+import com.example.kakao_mlms.dto.response.ReviewHistoryResponse;
+import com.example.kakao_mlms.repository.ReviewHistoryRepository;
+import com.example.kakao_mlms.repository.ReviewTermStatRepository;
+import com.example.kakao_mlms.repository.UserRepository;
+import com.example.kakao_mlms.util.GeoHashUtil;
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.Type;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * AI 리뷰 조회 기록 + 격자별 키워드 빈도 집계
+ * 기록은 응답 이후 비동기로 처리하므로 실패해도 조회 응답에는 영향 없음
+ * 키워드 빈도는 ML 서버에서 새로 조회한 결과만 집계 (캐시된 결과를 다시 응답할 때마다 중복 집계하지 않음)
+ * 근처 인기 키워드는 ML 서버 호출 없이 review_term_stats 만 조회
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReviewHistoryService {
+    private static final Gson GSON = new Gson();
+    private static final Type RESULTS_TYPE = new TypeToken<List<ReviewHistoryResponse.Restaurant>>() {
+    }.getType();
+
+    private final ReviewHistoryRepository reviewHistoryRepository;
+    private final ReviewTermStatRepository reviewTermStatRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${review.history.max-results:10}")
+    private Integer maxResults;
+    @Value("${review.history.area-precision:5}")
+    private Integer areaPrecision;
+
+    /**
+     * @param countTerms 키워드 빈도 집계 여부 (ML 서버에서 새로 조회한 결과일 때만 true)
+     */
+    @Async
+    public void record(Long userId, ReviewDto requestDto, String geohash, MlReviewResult result, boolean countTerms) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> reviewHistoryRepository.save(ReviewHistory.builder()
+                    // 존재 여부는 조회 시 확인했으므로 select 없이 FK 만 사용
+                    .user(userRepository.getReferenceById(userId))
+                    .keyword(requestDto.keyword())
+                    .geohash(geohash)
+                    .latitude(requestDto.latitude())
+                    .longitude(requestDto.longitude())
+                    .results(GSON.toJson(compact(result.reviews())))
+                    .build()));
+
+            if (countTerms) {
+                accumulateTerms(geohash, result.reviews());
+            }
+        } catch (RuntimeException e) {
+            log.error("Review History Record Failed : {}", e.getMessage());
+        }
+    }
+
+    public Slice<ReviewHistoryResponse> getHistories(Long userId, Pageable pageable) {
+        return reviewHistoryRepository.findByUser_Id(userId, pageable)
+                .map(history -> ReviewHistoryResponse.of(history, GSON.fromJson(history.getResults(), RESULTS_TYPE)));
+    }
+
+    public List<PopularTermResponse> getPopularTerms(float latitude, float longitude, int size) {
+        String areaPrefix = GeoHashUtil.encode(latitude, longitude, areaPrecision);
+        return reviewTermStatRepository.findPopularTerms(areaPrefix, PageRequest.of(0, size)).stream()
+                .map(PopularTermResponse::from)
+                .toList();
+    }
+
+    private List<ReviewHistoryResponse.Restaurant> compact(List<ReviewDtoResponse.Review> reviews) {
+        int size = Math.min(reviews.size(), maxResults);
+        List<ReviewHistoryResponse.Restaurant> restaurants = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            ReviewDtoResponse.Review review = reviews.get(i);
+            restaurants.add(new ReviewHistoryResponse.Restaurant(review.getStoreName(), review.getAddress(), review.getScore()));
+        }
+        return restaurants;
+    }
+
+    private void accumulateTerms(String geohash, List<ReviewDtoResponse.Review> reviews) {
+        Map<String, Long> frequencies = new HashMap<>();
+        for (ReviewDtoResponse.Review review : reviews) {
+            for (ReviewDtoResponse.Review.ClusteredTerm clusteredTerm : review.getClusteredTerms()) {
+                frequencies.merge(clusteredTerm.getTerm(), (long) clusteredTerm.getFrequency(), Long::sum);
+            }
+        }
+        if (frequencies.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> upsertTerms(geohash, frequencies));
+        } catch (DataIntegrityViolationException e) {
+            // 다른 요청이 같은 (geohash, term) 을 먼저 insert 한 경우, 다시 실행하면 update 로 처리됨
+            transactionTemplate.executeWithoutResult(status -> upsertTerms(geohash, frequencies));
+        }
+    }
+
+    private void upsertTerms(String geohash, Map<String, Long> frequencies) {
+        LocalDateTime now = LocalDateTime.now();
+        List<ReviewTermStat> newTerms = new ArrayList<>();
+
+        frequencies.forEach((term, frequency) -> {
+            if (reviewTermStatRepository.increaseFrequency(geohash, term, frequency, now) == 0) {
+                newTerms.add(ReviewTermStat.builder()
+                        .geohash(geohash)
+                        .term(term)
+                        .frequency(frequency)
+                        .build());
+            }
+        });
+
+        reviewTermStatRepository.saveAllAndFlush(newTerms);
+    }
+}
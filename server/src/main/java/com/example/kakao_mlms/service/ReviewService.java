@@ -1,90 +1,140 @@
 package com.example.kakao_mlms.service;
 
-import com.example.kakao_mlms.domain.User;
+import com.example.kakao_mlms.cache.ReviewCacheKey;
+import com.example.kakao_mlms.cache.ReviewResultCache;
+import com.example.kakao_mlms.client.MlReviewClient;
+import com.example.kakao_mlms.client.MlReviewResult;
 import com.example.kakao_mlms.dto.request.ReviewDto;
+import com.example.kakao_mlms.dto.response.ReviewBatchItemDto;
 import com.example.kakao_mlms.dto.response.ReviewDtoResponse;
-import com.example.kakao_mlms.dto.response.ReviewDtoResponse.Review.ClusteredTerm;
 import com.example.kakao_mlms.exception.CommonException;
 import com.example.kakao_mlms.exception.ErrorCode;
 import com.example.kakao_mlms.repository.UserRepository;
-import com.google.gson.JsonArray;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
 import jakarta.transaction.Transactional;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import net.minidev.json.JSONObject;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.*;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Slf4j
 @Service
 @Transactional
 @RequiredArgsConstructor
 public class ReviewService {
-    @Value("${ml.review-url}")
-    private String ML_REVIEW_URL;
     private final UserRepository userRepository;
+    private final ReviewResultCache reviewResultCache;
+    private final MlReviewClient mlReviewClient;
+    private final ReviewHistoryService reviewHistoryService;
+    private final Validator validator;
 
-    private static final RestTemplate restTemplate = new RestTemplate();
+    @Value("${review.batch.max-size:20}")
+    private Integer batchMaxSize;
+    @Value("${review.batch.parallelism:4}")
+    private Integer batchParallelism;
 
     /// AI 이용
-    @Transactional
+    // ML 서버 응답을 기다리는 동안 DB 커넥션을 점유하지 않도록 트랜잭션 없이 실행
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
     public ReviewDtoResponse getReviewResult(Long userId, ReviewDto requestDto) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new CommonException(ErrorCode.NOT_FOUND_USER));
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        JSONObject body = new JSONObject();
-        body.put("latitude", requestDto.latitude());
-        body.put("longitude", requestDto.longitude());
-        body.put("keyword", requestDto.keyword());
-
-        HttpEntity<?> request = new HttpEntity<>(body.toJSONString(), headers);
-
-        ResponseEntity<String> response = restTemplate.exchange(
-                ML_REVIEW_URL,
-                HttpMethod.POST,
-                request,
-                String.class
-        );
-
-        // JSON 파싱
-        JsonObject jsonObject = JsonParser.parseString(response.getBody()).getAsJsonObject();
-
-        // 응답에서 상태와 키워드 가져오기
-        String status = jsonObject.get("status").getAsString();
-        String location = jsonObject.get("keyword").getAsString();
-        JsonArray rankedRestaurantArray = jsonObject.getAsJsonArray("ranked_resturant");
-
-        List<ReviewDtoResponse.Review> reviews = new ArrayList<>();
-        for (int i = 0; i < rankedRestaurantArray.size(); i++) {
-            JsonObject restaurantData = rankedRestaurantArray.get(i).getAsJsonObject();
-            String storeName = restaurantData.get("store_name").getAsString();
-            String address = restaurantData.get("address").getAsString();
-            double score = restaurantData.get("score").getAsDouble();
-
-            // 클러스터링된 용어 가져오기
-        List<ClusteredTerm> clusteredTerms = new ArrayList<>();
-         if (restaurantData.get("clustered_terms").isJsonArray()) {
-            JsonArray clusteredTermsArray = restaurantData.getAsJsonArray("clustered_terms");
-            for (int j = 0; j < clusteredTermsArray.size(); j++) {
-                JsonArray termData = clusteredTermsArray.get(j).getAsJsonArray();
-                String term = termData.get(0).getAsString();
-                int frequency = termData.get(1).getAsInt();
-                clusteredTerms.add(new ClusteredTerm(term, frequency));
+        if (!userRepository.existsById(userId)) {
+            throw new CommonException(ErrorCode.NOT_FOUND_USER);
+        }
+
+        ReviewResultCache.Lookup lookup = reviewResultCache.lookup(requestDto);
+        MlReviewResult result = lookup.result();
+        reviewHistoryService.record(userId, requestDto, reviewResultCache.keyOf(requestDto).getGeohash(), result,
+                lookup.loaded());
+
+        return new ReviewDtoResponse(requestDto.latitude(), requestDto.longitude(), result.keyword(), result.reviews());
+    }
+
+    /// AI 이용 (스트리밍), 식당 단위로 ML 서버 응답을 바로 전달
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
+    public Flux<ReviewDtoResponse.Review> streamReviewResult(Long userId, ReviewDto requestDto) {
+        if (!userRepository.existsById(userId)) {
+            throw new CommonException(ErrorCode.NOT_FOUND_USER);
+        }
+
+        return mlReviewClient.streamReview(requestDto);
+    }
+
+    /// AI 이용 (여러 건)
+    // 같은 키(Geohash 격자 + 키워드)의 요청은 한 번만 조회하고, 서로 다른 키는 최대 batchParallelism 개씩 동시에 조회
+    // 항목별로 성공/실패를 나눠 요청 순서대로 반환
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
+    public List<ReviewBatchItemDto> getReviewResults(Long userId, List<ReviewDto> requestDtos) {
+        if (requestDtos.size() > batchMaxSize) {
+            throw new CommonException(ErrorCode.TOO_MANY_BATCH_QUERIES);
+        }
+        if (!userRepository.existsById(userId)) {
+            throw new CommonException(ErrorCode.NOT_FOUND_USER);
+        }
+
+        Map<ReviewCacheKey, ReviewDto> uniqueQueries = new LinkedHashMap<>();
+        for (ReviewDto requestDto : requestDtos) {
+            if (isValid(requestDto)) {
+                uniqueQueries.putIfAbsent(reviewResultCache.keyOf(requestDto), requestDto);
             }
         }
 
-            reviews.add(new ReviewDtoResponse.Review(storeName, address, score, clusteredTerms));
+        Map<ReviewCacheKey, BatchOutcome> outcomes = Flux.fromIterable(uniqueQueries.entrySet())
+                .flatMap(query -> Mono.fromCallable(() -> BatchOutcome.success(reviewResultCache.lookup(query.getValue())))
+                        .subscribeOn(Schedulers.boundedElastic())
+                        .onErrorResume(e -> Mono.just(BatchOutcome.failure(e)))
+                        .map(outcome -> Map.entry(query.getKey(), outcome)), batchParallelism)
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+                .block();
+
+        List<ReviewBatchItemDto> results = new ArrayList<>(requestDtos.size());
+        // 같은 키가 여러 번 요청되어도 새로 조회한 결과의 키워드 빈도는 한 번만 집계
+        Set<ReviewCacheKey> countedKeys = new HashSet<>();
+        for (ReviewDto requestDto : requestDtos) {
+            if (!isValid(requestDto)) {
+                results.add(ReviewBatchItemDto.fail(ErrorCode.INVALID_PARAMETER));
+                continue;
+            }
+
+            ReviewCacheKey key = reviewResultCache.keyOf(requestDto);
+            BatchOutcome outcome = outcomes.get(key);
+            if (outcome.result() == null) {
+                results.add(ReviewBatchItemDto.fail(outcome.errorCode()));
+            } else {
+                reviewHistoryService.record(userId, requestDto, key.getGeohash(), outcome.result(),
+                        outcome.loaded() && countedKeys.add(key));
+                results.add(ReviewBatchItemDto.ok(new ReviewDtoResponse(requestDto.latitude(), requestDto.longitude(),
+                        outcome.result().keyword(), outcome.result().reviews())));
+            }
         }
+        return results;
+    }
 
-        return new ReviewDtoResponse(requestDto.latitude(), requestDto.longitude(), location, reviews);
+    // 단건/스트리밍 요청과 같은 ReviewDto 제약 조건으로 항목별 검증 (실패 항목만 INVALID_PARAMETER)
+    private boolean isValid(ReviewDto requestDto) {
+        return requestDto != null && validator.validate(requestDto).isEmpty();
+    }
+
+    private record BatchOutcome(MlReviewResult result, boolean loaded, ErrorCode errorCode) {
+        static BatchOutcome success(ReviewResultCache.Lookup lookup) {
+            return new BatchOutcome(lookup.result(), lookup.loaded(), null);
+        }
+
+        static BatchOutcome failure(Throwable e) {
+            if (e instanceof CommonException commonException) {
+                return new BatchOutcome(null, false, commonException.getErrorCode());
+            }
+            log.error("Batch Review Query Failed : {}", e.getMessage());
+            return new BatchOutcome(null, false, ErrorCode.SERVER_ERROR);
+        }
     }
 }
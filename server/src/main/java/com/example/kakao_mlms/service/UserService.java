@@ -1,6 +1,8 @@
 package com.example.kakao_mlms.service;
 
+import com.example.kakao_mlms.cache.PageCountCache;
 import com.example.kakao_mlms.domain.User;
+import com.example.kakao_mlms.dto.CountedPage;
 import com.example.kakao_mlms.dto.UserDto;
 import com.example.kakao_mlms.exception.CommonException;
 import com.example.kakao_mlms.exception.ErrorCode;
@@ -17,13 +19,19 @@ import org.springframework.util.StringUtils;
 @RequiredArgsConstructor
 public class UserService {
     private final UserRepository userRepository;
+    private final PageCountCache pageCountCache;
 
     @Transactional(readOnly = true)
     public Page<UserDto> searchUsers(String name, Pageable pageable) {
         if(StringUtils.hasText(name)) {
-            return userRepository.findByNicknameContainingIgnoreCase(name, pageable).map(UserDto::from);
+            return CountedPage.of(userRepository.findByNicknameContainingIgnoreCase(name, pageable), pageable,
+                    () -> pageCountCache.count(PageCountCache.USERS, name.toLowerCase(),
+                            () -> userRepository.countByNicknameContainingIgnoreCase(name)))
+                    .map(UserDto::from);
         }
-        return userRepository.findAll(pageable).map(UserDto::from);
+        return CountedPage.of(userRepository.findAllBy(pageable), pageable,
+                () -> pageCountCache.count(PageCountCache.USERS, null, userRepository::count))
+                .map(UserDto::from);
     }
 
     @Transactional(readOnly = true)
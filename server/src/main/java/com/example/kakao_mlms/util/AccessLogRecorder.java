@@ -0,0 +1,136 @@
+package com.example.kakao_mlms.util;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 요청 단위 Access Log (method, path template, userId, status, latency)
+ * 요청 스레드는 미리 할당된 Ring Buffer 슬롯에 값만 기록하고, 문자열 포맷/출력은 백그라운드 스레드가 담당
+ * 버퍼가 가득 차면 요청을 막지 않고 버린 뒤 access.log.dropped 로 집계
+ * 5xx 응답은 sample-rate 와 관계없이 항상 기록
+ */
+@Slf4j
+@Component
+public class AccessLogRecorder implements InitializingBean, DisposableBean {
+    private static final Logger ACCESS_LOG = LoggerFactory.getLogger("ACCESS_LOG");
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final Slot[] slots;
+    private final int mask;
+    private final double sampleRate;
+
+    // 다음에 기록할 sequence (요청 스레드들이 CAS 로 획득)
+    private final AtomicLong head = new AtomicLong();
+    // 다음에 출력할 sequence (drain 스레드만 갱신)
+    private volatile long tail;
+    private final LongAdder dropped = new LongAdder();
+
+    private volatile boolean running;
+    private Thread drainThread;
+
+    public AccessLogRecorder(@Value("${access-log.buffer-size:8192}") int bufferSize,
+                             @Value("${access-log.sample-rate:1.0}") double sampleRate,
+                             MeterRegistry meterRegistry) {
+        int capacity = Integer.highestOneBit(Math.max(bufferSize - 1, 1)) << 1;
+        this.slots = new Slot[capacity];
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new Slot();
+        }
+        this.mask = capacity - 1;
+        this.sampleRate = sampleRate;
+
+        FunctionCounter.builder("access.log.dropped", dropped, LongAdder::sum)
+                .description("Access log entries dropped because the ring buffer was full")
+                .register(meterRegistry);
+    }
+
+    public boolean shouldSample(int status) {
+        return status >= 500 || sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
+    public void record(String method, String path, Long userId, int status, long latencyNanos) {
+        long sequence;
+        do {
+            sequence = head.get();
+            if (sequence - tail >= slots.length) {
+                dropped.increment();
+                return;
+            }
+        } while (!head.compareAndSet(sequence, sequence + 1));
+
+        Slot slot = slots[(int) (sequence & mask)];
+        slot.method = method;
+        slot.path = path;
+        slot.userId = userId;
+        slot.status = status;
+        slot.latencyNanos = latencyNanos;
+        // volatile write 로 위 필드들을 drain 스레드에 공개
+        slot.sequence = sequence;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        running = true;
+        drainThread = new Thread(this::drainLoop, "access-log-drain");
+        drainThread.setDaemon(true);
+        drainThread.start();
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(drainThread);
+        drainThread.join(TimeUnit.SECONDS.toMillis(1));
+    }
+
+    private void drainLoop() {
+        while (running) {
+            if (!drain()) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+        drain();
+    }
+
+    private boolean drain() {
+        boolean drained = false;
+        long next = tail;
+        Slot slot = slots[(int) (next & mask)];
+
+        while (slot.sequence == next) {
+            ACCESS_LOG.info("{} {} uid={} status={} {}ms",
+                    slot.method, slot.path, slot.userId, slot.status,
+                    TimeUnit.NANOSECONDS.toMillis(slot.latencyNanos));
+            slot.method = null;
+            slot.path = null;
+            slot.userId = null;
+
+            tail = ++next;
+            slot = slots[(int) (next & mask)];
+            drained = true;
+        }
+        return drained;
+    }
+
+    private static final class Slot {
+        private volatile long sequence = -1;
+        private String method;
+        private String path;
+        private Long userId;
+        private int status;
+        private long latencyNanos;
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.kakao_mlms.util;
+
+import com.example.kakao_mlms.exception.CommonException;
+import com.example.kakao_mlms.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 커서 페이지네이션용 커서 인코딩
+ * 클라이언트가 값에 의존하지 않도록 마지막 id 를 버전 prefix 와 함께 Base64(URL-safe) 로 감싸 전달
+ */
+public class CursorUtil {
+    private static final String PREFIX = "v1:";
+
+    private CursorUtil() {
+    }
+
+    public static String encode(Long lastId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((PREFIX + lastId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return 커서가 비어 있으면 null (첫 페이지)
+     */
+    public static Long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!decoded.startsWith(PREFIX)) {
+                throw new CommonException(ErrorCode.INVALID_CURSOR);
+            }
+            return Long.parseLong(decoded.substring(PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            // NumberFormatException 포함
+            throw new CommonException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
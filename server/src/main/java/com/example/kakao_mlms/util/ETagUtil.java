@@ -0,0 +1,50 @@
+package com.example.kakao_mlms.util;
+
+import com.example.kakao_mlms.dto.CountedPage;
+import org.springframework.data.domain.Page;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 조건부 GET (If-None-Match) 용 strong ETag 생성
+ * - 상세 : QnA/답변 version 과 조회자 기준 값(본인 글 여부) 으로 구성, 본문을 만들지 않고 DB version 만으로 비교 가능
+ * - 목록 : 응답 DTO(record) 의 toString 을 SHA-256 으로 요약, JSON 직렬화 없이 비교
+ */
+public class ETagUtil {
+    private static final int HASH_BYTES = 16;
+
+    private ETagUtil() {
+    }
+
+    /**
+     * @param answerVersion 답변이 없으면 null
+     * @param mine          조회자가 작성자인지 (응답의 isMine)
+     */
+    public static String qnaDetail(Long qnaId, Long qnaVersion, Long answerVersion, boolean mine) {
+        return "\"qna-" + qnaId + "." + qnaVersion + "." + (answerVersion == null ? "n" : answerVersion)
+                + (mine ? ".m" : "") + "\"";
+    }
+
+    public static String page(Page<?> page) {
+        boolean totalExact = !(page instanceof CountedPage<?> countedPage) || countedPage.isTotalExact();
+        return hash(page.getContent() + "|" + page.getTotalElements() + "|" + totalExact
+                + "|" + page.getNumber() + "|" + page.getSize());
+    }
+
+    // CursorPage 등 record 응답
+    public static String of(Object response) {
+        return hash(String.valueOf(response));
+    }
+
+    private static String hash(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return "\"" + HexFormat.of().formatHex(digest, 0, HASH_BYTES) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.kakao_mlms.util;
+
+/**
+ * 위/경도를 Geohash(base32) 문자열로 변환
+ * 같은 prefix 를 가지는 좌표는 같은 격자(cell) 에 속함 (precision 6 : 약 1.2km x 0.6km)
+ */
+public final class GeoHashUtil {
+    private static final char[] BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+
+    private GeoHashUtil() {
+    }
+
+    public static String encode(double latitude, double longitude, int precision) {
+        if (precision < 1 || precision > 12) {
+            throw new IllegalArgumentException("precision must be between 1 and 12");
+        }
+
+        double minLat = -90, maxLat = 90;
+        double minLon = -180, maxLon = 180;
+        char[] hash = new char[precision];
+        boolean evenBit = true;
+        int bit = 0;
+        int index = 0;
+
+        for (int i = 0; i < precision; ) {
+            if (evenBit) {
+                double mid = (minLon + maxLon) / 2;
+                if (longitude >= mid) {
+                    index = (index << 1) | 1;
+                    minLon = mid;
+                } else {
+                    index <<= 1;
+                    maxLon = mid;
+                }
+            } else {
+                double mid = (minLat + maxLat) / 2;
+                if (latitude >= mid) {
+                    index = (index << 1) | 1;
+                    minLat = mid;
+                } else {
+                    index <<= 1;
+                    maxLat = mid;
+                }
+            }
+            evenBit = !evenBit;
+
+            if (++bit == 5) {
+                hash[i++] = BASE32[index];
+                bit = 0;
+                index = 0;
+            }
+        }
+        return new String(hash);
+    }
+}
@@ -1,17 +1,17 @@
 package com.example.kakao_mlms.util;
 
 import com.example.kakao_mlms.constant.Constants;
-import com.example.kakao_mlms.domain.User;
 import com.example.kakao_mlms.domain.type.ERole;
 import com.example.kakao_mlms.dto.response.JwtTokenDto;
-import com.example.kakao_mlms.exception.CommonException;
-import com.example.kakao_mlms.exception.ErrorCode;
-import com.example.kakao_mlms.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import jakarta.servlet.http.HttpServletRequest;
-import jakarta.transaction.Transactional;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,7 +23,8 @@ import org.springframework.util.StringUtils;
 
 import java.security.Key;
 import java.util.Date;
-import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 
 @Slf4j
@@ -33,7 +34,7 @@ public class JwtUtil implements InitializingBean {
     public static final String AUTHORIZATION_HEADER = "Authorization";
     public static final String BEARER_PREFIX = "Bearer ";
 
-    private final UserRepository userRepository;
+    private final MeterRegistry meterRegistry;
 
     @Value("${jwt.secret-key}")
     private String secretKey;
@@ -42,32 +43,51 @@ public class JwtUtil implements InitializingBean {
     @Getter
     @Value("${jwt.refresh-token-expire-period}")
     private Integer refreshTokenExpiredPeriod;
+    @Value("${jwt.claims-cache.max-size:10000}")
+    private Long claimsCacheMaxSize;
     private Key key;
+    // JwtParser 는 불변 객체라 스레드 간 공유 가능
+    private JwtParser jwtParser;
+    // 검증이 끝난 토큰 -> Claims, 토큰의 exp 시각에 만료
+    private Cache<String, Claims> claimsCache;
 
     @Override
     public void afterPropertiesSet() {
         byte[] keyBytes = Decoders.BASE64.decode(secretKey);
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
+        this.claimsCache = Caffeine.newBuilder()
+                .maximumSize(claimsCacheMaxSize)
+                .expireAfter(new ClaimsExpiry())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, claimsCache, "jwtClaims");
     }
 
     public int getWebRefreshTokenExpirationSecond() {
         return (int) (refreshTokenExpiredPeriod / 1000);
     }
 
-    public JwtTokenDto generateTokens(final Long id, final ERole role) {
-        final String accessToken = generateToken(id, role, accessTokenExpiredPeriod * 1000);
-        final String refreshToken = generateToken(id, role, refreshTokenExpiredPeriod * 1000);
+    /**
+     * Refresh Token 의 jti 는 RefreshTokenService 가 저장소 키로 사용하므로 호출 측에서 지정
+     */
+    public JwtTokenDto generateTokens(final Long id, final ERole role, final String refreshTokenId) {
+        final String accessToken = generateToken(id, role, Constants.ACCESS_TOKEN_TYPE, UUID.randomUUID().toString(), accessTokenExpiredPeriod * 1000);
+        final String refreshToken = generateToken(id, role, Constants.REFRESH_TOKEN_TYPE, refreshTokenId, refreshTokenExpiredPeriod * 1000);
         return new JwtTokenDto(accessToken, refreshToken);
     }
 
-    public String generateToken(final Long id, final ERole role, final Integer expirationPeriod) {
+    public String generateToken(final Long id, final ERole role, final String tokenType, final String tokenId, final Integer expirationPeriod) {
         final Claims claims = Jwts.claims();
         claims.put(Constants.USER_ID_CLAIM_NAME, id.toString());
         claims.put(Constants.USER_ROLE_CLAIM_NAME, role.toString());
+        claims.put(Constants.TOKEN_TYPE_CLAIM_NAME, tokenType);
 
         return Jwts.builder()
                 .setHeaderParam(Header.TYPE, Header.JWT_TYPE)
                 .setClaims(claims)
+                .setId(tokenId)
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + expirationPeriod))
                 .signWith(key, SignatureAlgorithm.HS512)
@@ -88,9 +108,21 @@ public class JwtUtil implements InitializingBean {
                 .compact();
     }
 
+    /**
+     * 같은 토큰은 exp 전까지 서명 검증(HMAC-SHA512)을 한 번만 수행
+     * 반환된 Claims 는 캐시와 공유되므로 읽기 전용으로 사용
+     */
     public Claims validateToken(final String token) throws ExpiredJwtException, JwtException {
-        final JwtParser jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
-        return jwtParser.parseClaimsJws(token).getBody();
+        final Claims cached = claimsCache.getIfPresent(token);
+        if (cached != null) {
+            return cached;
+        }
+
+        final Claims claims = jwtParser.parseClaimsJws(token).getBody();
+        if (claims.getExpiration() != null) {
+            claimsCache.put(token, claims);
+        }
+        return claims;
     }
 
     /**
@@ -107,24 +139,21 @@ public class JwtUtil implements InitializingBean {
 
     }
 
-    @Transactional
-    public JwtTokenDto reissue(final String refreshToken) {
-        final Claims claims = validateToken(refreshToken);
-
-        final Long id = Long.valueOf(claims.get(Constants.USER_ID_CLAIM_NAME).toString());
-        final ERole role = ERole.of(claims.get(Constants.USER_ROLE_CLAIM_NAME).toString());
-
-        final User user = userRepository.findById(id).orElseThrow(() -> new CommonException(ErrorCode.NOT_FOUND_USER));
-
-        if (!Objects.equals(user.getId(), id) || user.getRole() != role || !user.getRefreshToken().equals(refreshToken)) {
-            log.error("Invalid Token");
-            throw new CommonException(ErrorCode.INVALID_TOKEN_ERROR);
+    private static class ClaimsExpiry implements Expiry<String, Claims> {
+        @Override
+        public long expireAfterCreate(String token, Claims claims, long currentTime) {
+            long remainingMillis = claims.getExpiration().getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
         }
 
-        final JwtTokenDto jwtTokenDto = generateTokens(id, role);
-
-        user.updateRefreshToken(jwtTokenDto.getRefreshToken());
+        @Override
+        public long expireAfterUpdate(String token, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
 
-        return jwtTokenDto;
+        @Override
+        public long expireAfterRead(String token, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
@@ -0,0 +1,80 @@
+package com.example.kakao_mlms.cache;
+
+import com.example.kakao_mlms.dto.QnaWithAnswerDto;
+import com.example.kakao_mlms.event.QnaChangedEvent;
+import com.example.kakao_mlms.event.UserProfileChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QnaDetailCacheTest {
+    private final QnaDetailCache sut = new QnaDetailCache(new SimpleMeterRegistry(), true, 100, 600);
+
+    @Test
+    void versionBumpForcesReload() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+        sut.get(1L, id -> load(loads));
+        sut.get(1L, id -> load(loads));
+
+        // When
+        sut.onQnaChanged(QnaChangedEvent.of(1L));
+        sut.get(1L, id -> load(loads));
+
+        // Then
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void versionBumpKeepsOtherEntries() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+        sut.get(1L, id -> load(loads));
+        sut.get(2L, id -> load(loads));
+
+        // When
+        sut.onQnaChanged(QnaChangedEvent.of(1L));
+        sut.get(2L, id -> load(loads));
+
+        // Then
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void bulkChangeInvalidatesAll() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+        sut.get(1L, id -> load(loads));
+        sut.get(2L, id -> load(loads));
+
+        // When
+        sut.onQnaChanged(QnaChangedEvent.all());
+        sut.get(1L, id -> load(loads));
+        sut.get(2L, id -> load(loads));
+
+        // Then
+        assertThat(loads).hasValue(4);
+    }
+
+    @Test
+    void userProfileChangeInvalidatesAll() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+        sut.get(1L, id -> load(loads));
+
+        // When
+        sut.onUserProfileChanged(new UserProfileChangedEvent(10L));
+        sut.get(1L, id -> load(loads));
+
+        // Then
+        assertThat(loads).hasValue(2);
+    }
+
+    private QnaWithAnswerDto load(AtomicInteger loads) {
+        loads.incrementAndGet();
+        return new QnaWithAnswerDto(null, null, 0L, null);
+    }
+}
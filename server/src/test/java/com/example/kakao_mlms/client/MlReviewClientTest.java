@@ -0,0 +1,80 @@
+package com.example.kakao_mlms.client;
+
+import com.example.kakao_mlms.dto.request.ReviewDto;
+import com.example.kakao_mlms.dto.response.ReviewDtoResponse;
+import com.example.kakao_mlms.exception.CommonException;
+import com.example.kakao_mlms.exception.ErrorCode;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 로컬 ML 서버 대역(MockWebServer) 으로 스트리밍 응답 검증
+class MlReviewClientTest {
+    private MockWebServer mlServer;
+    private MlReviewClient sut;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mlServer = new MockWebServer();
+        mlServer.start();
+        sut = new MlReviewClient(WebClient.builder().build(),
+                CircuitBreakerRegistry.ofDefaults(),
+                BulkheadRegistry.ofDefaults(),
+                mlServer.url("/review").toString(),
+                mlServer.url("/review/stream").toString(),
+                0,
+                1024 * 1024);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        mlServer.shutdown();
+    }
+
+    @Test
+    void streamsEachRankedRestaurant() throws InterruptedException {
+        // Given
+        mlServer.enqueue(new MockResponse()
+                .setHeader("Content-Type", "application/x-ndjson")
+                .setChunkedBody("""
+                        {"store_name":"A","address":"a","score":4.5,"clustered_terms":[["맛있다",10]]}
+                        {"store_name":"B","address":"b","score":4.1,"clustered_terms":[]}
+                        """, 16));
+
+        // When
+        List<ReviewDtoResponse.Review> reviews = sut.streamReview(new ReviewDto(37.4f, 127.1f, "판교"))
+                .collectList()
+                .block();
+
+        // Then
+        RecordedRequest request = mlServer.takeRequest();
+        assertThat(request.getPath()).isEqualTo("/review/stream");
+        assertThat(request.getBody().readUtf8()).contains("\"keyword\":\"판교\"");
+        assertThat(reviews).extracting("storeName").containsExactly("A", "B");
+        assertThat(reviews.get(0).getClusteredTerms().get(0).getFrequency()).isEqualTo(10);
+    }
+
+    @Test
+    void mapsServerErrorToErrorCode() {
+        // Given
+        mlServer.enqueue(new MockResponse().setResponseCode(500));
+
+        // When & Then
+        assertThatThrownBy(() -> sut.streamReview(new ReviewDto(37.4f, 127.1f, "판교")).blockLast())
+                .isInstanceOf(CommonException.class)
+                .extracting(e -> ((CommonException) e).getErrorCode())
+                .isEqualTo(ErrorCode.ML_SERVER_ERROR);
+    }
+}
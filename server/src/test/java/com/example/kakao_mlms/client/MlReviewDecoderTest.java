@@ -0,0 +1,68 @@
+package com.example.kakao_mlms.client;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MlReviewDecoderTest {
+    private static final String RESPONSE = """
+            {"status":"success","keyword":"판교","ranked_resturant":[
+              {"store_name":"A","address":"a","score":4.5,"clustered_terms":[["맛있다",10],["친절",3]],"extra":{"x":1}},
+              {"store_name":"B","address":"b","score":4.1,"clustered_terms":null},
+              {"store_name":"C","address":"c","score":3.9,"clustered_terms":[]}
+            ]}
+            """;
+
+    @Test
+    void decodesAllRestaurants() throws IOException {
+        // When
+        MlReviewResult result = MlReviewDecoder.decode(new StringReader(RESPONSE), 0);
+
+        // Then
+        assertThat(result.status()).isEqualTo("success");
+        assertThat(result.keyword()).isEqualTo("판교");
+        assertThat(result.reviews()).hasSize(3);
+        assertThat(result.reviews().get(0).getClusteredTerms()).hasSize(2);
+        assertThat(result.reviews().get(0).getClusteredTerms().get(0).getTerm()).isEqualTo("맛있다");
+        assertThat(result.reviews().get(1).getClusteredTerms()).isEmpty();
+    }
+
+    @Test
+    void stopsAfterTopN() throws IOException {
+        // Given
+        String truncated = RESPONSE.substring(0, RESPONSE.indexOf("{\"store_name\":\"C\""));
+
+        // When
+        MlReviewResult result = MlReviewDecoder.decode(new StringReader(truncated), 2);
+
+        // Then
+        assertThat(result.reviews()).extracting("storeName").containsExactly("A", "B");
+    }
+
+    @Test
+    void readsKeywordAfterRestaurants() throws IOException {
+        // Given
+        String response = """
+                {"ranked_resturant":[{"store_name":"A","address":"a","score":1},{"store_name":"B","address":"b","score":2}],
+                 "status":"success","keyword":"판교"}
+                """;
+
+        // When
+        MlReviewResult result = MlReviewDecoder.decode(new StringReader(response), 1);
+
+        // Then
+        assertThat(result.keyword()).isEqualTo("판교");
+        assertThat(result.reviews()).hasSize(1);
+    }
+
+    @Test
+    void rejectsMissingFields() {
+        // When & Then
+        assertThatThrownBy(() -> MlReviewDecoder.decode(new StringReader("{\"status\":\"success\"}"), 0))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
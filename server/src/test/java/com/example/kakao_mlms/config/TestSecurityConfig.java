@@ -2,6 +2,7 @@ package com.example.kakao_mlms.config;
 
 import com.example.kakao_mlms.security.CustomAuthenticationProvider;
 import com.example.kakao_mlms.security.JwtAuthEntryPoint;
+import com.example.kakao_mlms.security.PublicRouteMatcher;
 import com.example.kakao_mlms.security.config.SecurityConfig;
 import com.example.kakao_mlms.security.handler.JwtAccessDeniedHandler;
 import com.example.kakao_mlms.security.handler.signin.OAuth2LoginFailureHandler;
@@ -10,6 +11,7 @@ import com.example.kakao_mlms.security.handler.signout.CustomSignOutProcessHandl
 import com.example.kakao_mlms.security.handler.signout.CustomSignOutResultHandler;
 import com.example.kakao_mlms.security.service.CustomOAuth2UserService;
 import com.example.kakao_mlms.security.service.CustomUserDetailService;
+import com.example.kakao_mlms.util.AccessLogRecorder;
 import com.example.kakao_mlms.util.JwtUtil;
 import jakarta.servlet.ServletException;
 import org.springframework.boot.test.mock.mockito.MockBean;
@@ -21,7 +23,7 @@ import java.io.IOException;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.willDoNothing;
 
-@Import(SecurityConfig.class)
+@Import({SecurityConfig.class, PublicRouteMatcher.class})
 public class TestSecurityConfig {
 
     @MockBean private JwtAuthEntryPoint jwtAuthEntryPoint;
@@ -33,6 +35,7 @@ public class TestSecurityConfig {
     @MockBean private OAuth2LoginFailureHandler oAuth2LoginFailureHandler;
     @MockBean private CustomOAuth2UserService customOAuth2UserService;
     @MockBean private CustomAuthenticationProvider customAuthenticationProvider;
+    @MockBean private AccessLogRecorder accessLogRecorder;
 
 
     @BeforeTestMethod
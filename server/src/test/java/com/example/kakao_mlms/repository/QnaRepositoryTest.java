@@ -0,0 +1,186 @@
+package com.example.kakao_mlms.repository;
+
+import com.example.kakao_mlms.cache.PageCountCache;
+import com.example.kakao_mlms.config.JpaConfig;
+import com.example.kakao_mlms.domain.Answer;
+import com.example.kakao_mlms.domain.Image;
+import com.example.kakao_mlms.domain.Qna;
+import com.example.kakao_mlms.domain.User;
+import com.example.kakao_mlms.domain.type.Category;
+import com.example.kakao_mlms.domain.type.EProvider;
+import com.example.kakao_mlms.domain.type.Extension;
+import com.example.kakao_mlms.domain.type.ERole;
+import com.example.kakao_mlms.dto.QnaSearchCondition;
+import com.example.kakao_mlms.dto.QnaSummaryDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@DisplayName("QnA 조회 쿼리 수 TEST")
+@DataJpaTest
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({JpaConfig.class, PageCountCache.class, TableRowEstimator.class, QnaRepositoryTest.MeterConfig.class})
+class QnaRepositoryTest {
+    private static final String TITLE = "statement-count";
+
+    @Autowired private QnaRepository qnaRepository;
+    @Autowired private EntityManager entityManager;
+    private Statistics statistics;
+    private Long detailId;
+    private List<User> users;
+
+    @BeforeEach
+    void setUp() {
+        // 작성자 3명이 QnA 6개를 번갈아 작성
+        users = List.of(createUser(1), createUser(2), createUser(3));
+        users.forEach(entityManager::persist);
+        for (int i = 0; i < 6; i++) {
+            entityManager.persist(Qna.builder()
+                    .title(TITLE + i)
+                    .content("content of qna " + i)
+                    .category(Category.GENERAL)
+                    .isAnswer(false)
+                    .isBlind(false)
+                    .user(users.get(i % users.size()))
+                    .build());
+        }
+
+        // 이미지 2개와 답변이 있는 블라인드 QnA
+        Qna detail = Qna.builder()
+                .title("detail")
+                .content("detail content")
+                .category(Category.GENERAL)
+                .isAnswer(true)
+                .isBlind(true)
+                .user(users.get(0))
+                .build();
+        detail.addImages(List.of(createImage(detail, "a"), createImage(detail, "b")));
+        entityManager.persist(detail);
+        entityManager.persist(Answer.builder().content("answer").qna(detail).user(users.get(1)).build());
+        detailId = detail.getId();
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void searchLoadsPageAndAuthorsInOneStatement() {
+        // Given
+        QnaSearchCondition condition = QnaSearchCondition.builder().title(TITLE).build();
+
+        // When
+        Page<QnaSummaryDto> page = qnaRepository.search(condition, 0, PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "id")));
+
+        // Then
+        assertThat(page.getContent()).hasSize(6);
+        assertThat(page.getContent()).allSatisfy(qna -> assertThat(qna.userNickname()).startsWith("n1-author"));
+        // 첫 페이지가 다 차지 않아 count 도 생략
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void searchAfterLoadsPageAndAuthorsInOneStatement() {
+        // Given
+        QnaSearchCondition condition = QnaSearchCondition.builder().title(TITLE).build();
+
+        // When
+        List<QnaSummaryDto> qnas = qnaRepository.searchAfter(condition, 0, null, 4);
+
+        // Then
+        assertThat(qnas).hasSize(4);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void searchReturnsSnippetOnlyWhenRequested() {
+        // Given
+        QnaSearchCondition condition = QnaSearchCondition.builder().title(TITLE).build();
+
+        // When
+        List<QnaSummaryDto> withoutSnippet = qnaRepository.searchAfter(condition, 0, null, 1);
+        List<QnaSummaryDto> withSnippet = qnaRepository.searchAfter(condition, 7, null, 1);
+
+        // Then
+        assertThat(withoutSnippet.get(0).snippet()).isNull();
+        assertThat(withSnippet.get(0).snippet()).isEqualTo("content");
+    }
+
+    @Test
+    void findDetailLoadsQnaImagesAndAnswerInOneStatement() {
+        // When
+        List<QnaRepository.QnaDetailRow> rows = qnaRepository.findDetail(detailId);
+
+        // Then
+        assertThat(rows).isNotEmpty();
+        QnaRepository.QnaDetailRow row = rows.get(0);
+        assertThat(row.getQna().getUser().getNickname()).isEqualTo("n1-author1");
+        assertThat(row.getQna().getImages()).hasSize(2);
+        assertThat(row.getAnswer().getUser().getNickname()).isEqualTo("n1-author2");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void findVersionByIdReflectsQnaUpdate() {
+        // Given
+        QnaRepository.QnaVersion before = qnaRepository.findVersionById(detailId).orElseThrow();
+
+        // When
+        qnaRepository.findQnaById(detailId).orElseThrow().update("updated", "updated content", Category.GENERAL);
+        entityManager.flush();
+        entityManager.clear();
+        QnaRepository.QnaVersion after = qnaRepository.findVersionById(detailId).orElseThrow();
+
+        // Then
+        assertThat(before.getAnswerVersion()).isZero();
+        assertThat(after.getVersion()).isEqualTo(before.getVersion() + 1);
+        assertThat(after.getAnswerVersion()).isEqualTo(before.getAnswerVersion());
+        assertThat(after.getUserId()).isEqualTo(users.get(0).getId());
+    }
+
+    private Image createImage(Qna qna, String name) {
+        return Image.builder().originName(name + ".png").uuidName(name + "-uuid.png").extension(Extension.PNG).qna(qna).build();
+    }
+
+    private User createUser(int i) {
+        return User.builder()
+                .serialId("n1-social-" + i)
+                .password("password")
+                .provider(EProvider.DEFAULT)
+                .role(ERole.USER)
+                .nickname("n1-author" + i)
+                .build();
+    }
+
+    @TestConfiguration
+    static class MeterConfig {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.kakao_mlms.search;
+
+import com.example.kakao_mlms.domain.type.Category;
+import com.example.kakao_mlms.repository.QnaRepository;
+import com.example.kakao_mlms.repository.QnaRepository.QnaSearchForm;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class QnaSearchIndexTest {
+    @Mock private QnaRepository qnaRepository;
+    private QnaSearchIndex sut;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        sut = new QnaSearchIndex(qnaRepository, true, 500);
+        given(qnaRepository.findSearchFormsAfter(eq(0L), any())).willReturn(List.of(
+                new Form(1L, "결제 오류 문의", "카드 결제가 되지 않습니다", Category.GENERAL, false, 10L),
+                new Form(2L, "계정 문의", "결제 내역을 확인하고 싶어요", Category.ACCOUNT, true, 20L),
+                new Form(3L, "배달비 문의", "배달비가 너무 비싸요", Category.OTHER, false, 10L)));
+        sut.rebuild();
+    }
+
+    @Test
+    void searchRanksTitleMatchesFirst() {
+        // When
+        QnaSearchIndex.SearchHits hits = sut.search("결제", true, null, null, null, QnaSearchIndex.Order.RELEVANCE, 0, 10);
+
+        // Then
+        assertThat(sut.isAvailable()).isTrue();
+        assertThat(hits.totalHits()).isEqualTo(2);
+        assertThat(hits.ids()).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void searchMatchesKoreanSubstring() {
+        // When
+        QnaSearchIndex.SearchHits hits = sut.search("배달", false, null, null, null, QnaSearchIndex.Order.RELEVANCE, 0, 10);
+
+        // Then
+        assertThat(hits.ids()).containsExactly(3L);
+    }
+
+    @Test
+    void titleSearchMatchesOnlyContiguousTitleText() {
+        // When
+        QnaSearchIndex.SearchHits inTitle = sut.search("결제", false, null, null, null, QnaSearchIndex.Order.RELEVANCE, 0, 10);
+        QnaSearchIndex.SearchHits notContiguous = sut.search("결제문의", false, null, null, null, QnaSearchIndex.Order.RELEVANCE, 0, 10);
+
+        // Then
+        assertThat(inTitle.ids()).containsExactly(1L);
+        assertThat(notContiguous.ids()).isEmpty();
+    }
+
+    @Test
+    void searchOrdersById() {
+        // When
+        QnaSearchIndex.SearchHits desc = sut.search("문의", false, null, null, null, QnaSearchIndex.Order.ID_DESC, 0, 10);
+        QnaSearchIndex.SearchHits asc = sut.search("문의", false, null, null, null, QnaSearchIndex.Order.ID_ASC, 0, 10);
+
+        // Then
+        assertThat(desc.ids()).containsExactly(3L, 2L, 1L);
+        assertThat(asc.ids()).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    void supportsOnlyCjkWordsOfTwoOrMoreCharacters() {
+        // When & Then
+        assertThat(sut.supports("배달")).isTrue();
+        assertThat(sut.supports("배달 문의")).isTrue();
+        assertThat(sut.supports("배")).isFalse();
+        assertThat(sut.supports("spri")).isFalse();
+        assertThat(sut.supports("배달 s")).isFalse();
+    }
+
+    @Test
+    void searchAppliesFilters() {
+        // When
+        QnaSearchIndex.SearchHits byUser = sut.search("문의", false, 10L, null, null, QnaSearchIndex.Order.RELEVANCE, 0, 10);
+        QnaSearchIndex.SearchHits notAnswered = sut.search("결제", true, null, null, false, QnaSearchIndex.Order.RELEVANCE, 0, 10);
+        QnaSearchIndex.SearchHits byCategory = sut.search("문의", false, null, Category.ACCOUNT, null, QnaSearchIndex.Order.RELEVANCE, 0, 10);
+
+        // Then
+        assertThat(byUser.ids()).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(notAnswered.ids()).containsExactly(1L);
+        assertThat(byCategory.ids()).containsExactly(2L);
+    }
+
+    @Test
+    void searchPagesByOffset() {
+        // When
+        QnaSearchIndex.SearchHits hits = sut.search("문의", false, null, null, null, QnaSearchIndex.Order.ID_DESC, 2, 2);
+
+        // Then
+        assertThat(hits.totalHits()).isEqualTo(3);
+        assertThat(hits.ids()).hasSize(1);
+    }
+
+    private record Form(Long id, String title, String content, Category category, Boolean isAnswer, Long userId)
+            implements QnaSearchForm {
+        @Override public Long getId() { return id; }
+        @Override public String getTitle() { return title; }
+        @Override public String getContent() { return content; }
+        @Override public Category getCategory() { return category; }
+        @Override public Boolean getIsAnswer() { return isAnswer; }
+        @Override public Long getUserId() { return userId; }
+    }
+}
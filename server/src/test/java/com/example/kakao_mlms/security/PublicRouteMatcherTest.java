@@ -0,0 +1,50 @@
+package com.example.kakao_mlms.security;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PublicRouteMatcherTest {
+    private final PublicRouteMatcher sut = new PublicRouteMatcher();
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "/api/v1/auth/basic", "/api/v1/sign-in", "/api/auth/kakao", "/oauth2/authorization/kakao",
+            "/login/oauth2/code/kakao", "/api/v1/auth/reissue", "/login/oauth2/code/kakao/callback",
+            "/swagger-ui/index.html", "/swagger-ui.html", "/v3/api-docs", "/v3/api-docs/swagger-config"
+    })
+    void matchesPublicRoutes(String path) {
+        assertThat(sut.matches(path)).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "/", "/api/v1/auth", "/api/v1/auth/register", "/api/v1/auth/reissue2", "/api/v1/qnas", ""
+    })
+    void rejectsProtectedRoutes(String path) {
+        assertThat(sut.matches(path)).isFalse();
+    }
+
+    @Test
+    void matchesRequest() {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/auth/reissue");
+
+        // When & Then
+        assertThat(sut.matches(request)).isTrue();
+    }
+
+    @Test
+    void overlappingPrefixes() {
+        // Given
+        PublicRouteMatcher matcher = new PublicRouteMatcher("/a", "/a/b/c");
+
+        // When & Then
+        assertThat(matcher.matches("/a/b")).isTrue();
+        assertThat(matcher.matches("/ab")).isFalse();
+        assertThat(matcher.matches("/a/b/c")).isTrue();
+    }
+}
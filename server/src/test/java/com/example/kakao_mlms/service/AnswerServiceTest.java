@@ -11,6 +11,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Optional;
 
@@ -24,6 +25,7 @@ class AnswerServiceTest {
     @Mock private QnaRepository qnaRepository;
     @Mock private UserRepository userRepository;
     @Mock private AnswerRepository answerRepository;
+    @Mock private ApplicationEventPublisher eventPublisher;
 
     @Test
     void replyQna() {
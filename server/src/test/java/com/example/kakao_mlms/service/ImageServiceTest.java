@@ -0,0 +1,60 @@
+package com.example.kakao_mlms.service;
+
+import com.example.kakao_mlms.exception.CommonException;
+import com.example.kakao_mlms.exception.ErrorCode;
+import com.example.kakao_mlms.repository.ImageRepository;
+import com.example.kakao_mlms.repository.QnaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class ImageServiceTest {
+    private static final String STORE_FILE_NAME = "0b7e6a55-8f0c-4d6e-9a51-3c2f1e9d4b7a.png";
+
+    @TempDir
+    Path uploadDir;
+
+    private final ImageService sut = new ImageService(mock(ImageRepository.class), mock(QnaRepository.class),
+            mock(ApplicationEventPublisher.class));
+
+    @BeforeEach
+    void setUp() throws Exception {
+        ReflectionTestUtils.setField(sut, "uploadDir", uploadDir + "/");
+        Files.writeString(uploadDir.resolve(STORE_FILE_NAME), "image");
+    }
+
+    @Test
+    void resolveImage() throws Exception {
+        // When
+        Path file = sut.resolveImage(STORE_FILE_NAME);
+
+        // Then
+        assertThat(file).isEqualTo(uploadDir.resolve(STORE_FILE_NAME).toRealPath());
+    }
+
+    @Test
+    void resolveImageRejectsPathTraversal() {
+        // When & Then
+        assertThatThrownBy(() -> sut.resolveImage("../" + STORE_FILE_NAME))
+                .isInstanceOf(CommonException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.INVALID_FILE_NAME);
+        assertThatThrownBy(() -> sut.resolveImage("..%2Fapplication.yml"))
+                .extracting("errorCode").isEqualTo(ErrorCode.INVALID_FILE_NAME);
+    }
+
+    @Test
+    void resolveMissingImage() {
+        // When & Then
+        assertThatThrownBy(() -> sut.resolveImage("1b7e6a55-8f0c-4d6e-9a51-3c2f1e9d4b7a.jpg"))
+                .extracting("errorCode").isEqualTo(ErrorCode.NOT_FOUND_FILE);
+    }
+}
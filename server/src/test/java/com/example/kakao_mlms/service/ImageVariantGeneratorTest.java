@@ -0,0 +1,96 @@
+package com.example.kakao_mlms.service;
+
+import com.example.kakao_mlms.domain.Qna;
+import com.example.kakao_mlms.domain.type.ImageVariant;
+import com.example.kakao_mlms.event.ImagesStoredEvent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+
+class ImageVariantGeneratorTest {
+    private static final String UUID_NAME = "0b7e6a55-8f0c-4d6e-9a51-3c2f1e9d4b7a";
+
+    @TempDir
+    Path uploadDir;
+
+    private final ImageVariantGenerator sut = new ImageVariantGenerator(mock(ImageService.class));
+
+    @Test
+    void generateFixedWidthVariants() throws Exception {
+        // Given
+        Path original = createImage(UUID_NAME + ".png", 4000, 2000, BufferedImage.TYPE_INT_RGB);
+
+        // When
+        Map<ImageVariant, String> variants = sut.generate(original);
+
+        // Then
+        assertThat(variants).containsEntry(ImageVariant.THUMBNAIL, UUID_NAME + "_thumb.jpg")
+                .containsEntry(ImageVariant.MEDIUM, UUID_NAME + "_medium.jpg");
+        BufferedImage thumbnail = ImageIO.read(uploadDir.resolve(UUID_NAME + "_thumb.jpg").toFile());
+        assertThat(thumbnail.getWidth()).isEqualTo(320);
+        assertThat(thumbnail.getHeight()).isEqualTo(160);
+        assertThat(ImageIO.read(uploadDir.resolve(UUID_NAME + "_medium.jpg").toFile()).getWidth()).isEqualTo(1024);
+    }
+
+    @Test
+    void keepTransparencyAsPng() throws Exception {
+        // Given
+        Path original = createImage(UUID_NAME + ".png", 640, 480, BufferedImage.TYPE_INT_ARGB);
+
+        // When
+        Map<ImageVariant, String> variants = sut.generate(original);
+
+        // Then
+        assertThat(variants).containsOnlyKeys(ImageVariant.THUMBNAIL);
+        assertThat(variants.get(ImageVariant.THUMBNAIL)).isEqualTo(UUID_NAME + "_thumb.png");
+    }
+
+    @Test
+    void skipImageSmallerThanVariants() throws Exception {
+        // Given
+        Path original = createImage(UUID_NAME + ".png", 200, 100, BufferedImage.TYPE_INT_RGB);
+
+        // When & Then
+        assertThat(sut.generate(original)).isEmpty();
+    }
+
+    @Test
+    void deleteVariantsWhenRecordFails() throws Exception {
+        // Given
+        ImageService imageService = mock(ImageService.class);
+        ImageVariantGenerator generator = new ImageVariantGenerator(imageService);
+        Path original = createImage(UUID_NAME + ".png", 4000, 2000, BufferedImage.TYPE_INT_RGB);
+        given(imageService.resolveImage(UUID_NAME + ".png")).willReturn(original);
+        willThrow(new ObjectOptimisticLockingFailureException(Qna.class, 1L))
+                .given(imageService).recordVariants(eq(1L), any());
+
+        // When
+        generator.onImagesStored(new ImagesStoredEvent(1L, List.of(UUID_NAME + ".png")));
+
+        // Then
+        then(imageService).should(times(3)).recordVariants(eq(1L), any());
+        then(imageService).should().deleteImage(UUID_NAME + "_thumb.jpg");
+        then(imageService).should().deleteImage(UUID_NAME + "_medium.jpg");
+    }
+
+    private Path createImage(String name, int width, int height, int type) throws Exception {
+        Path path = uploadDir.resolve(name);
+        ImageIO.write(new BufferedImage(width, height, type), "png", path.toFile());
+        return path;
+    }
+}
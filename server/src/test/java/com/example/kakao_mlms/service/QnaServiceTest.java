@@ -1,89 +1,185 @@
 package com.example.kakao_mlms.service;
 
+import com.example.kakao_mlms.cache.PageCountCache;
+import com.example.kakao_mlms.cache.QnaDetailCache;
 import com.example.kakao_mlms.domain.type.Category;
-import com.example.kakao_mlms.dto.QnaDto;
+import com.example.kakao_mlms.domain.type.EProvider;
+import com.example.kakao_mlms.domain.type.ERole;
+import com.example.kakao_mlms.dto.QnaDtoWithImages;
+import com.example.kakao_mlms.dto.QnaSearchCondition;
+import com.example.kakao_mlms.dto.QnaSummaryDto;
+import com.example.kakao_mlms.dto.QnaWithAnswerDto;
+import com.example.kakao_mlms.dto.UserDto;
+import com.example.kakao_mlms.dto.response.CursorPage;
+import com.example.kakao_mlms.exception.CommonException;
+import com.example.kakao_mlms.exception.ErrorCode;
 import com.example.kakao_mlms.repository.QnaRepository;
+import com.example.kakao_mlms.search.QnaSearchIndex;
+import com.example.kakao_mlms.util.CursorUtil;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
 
 @ExtendWith(MockitoExtension.class)
 class QnaServiceTest {
     @InjectMocks private QnaService sut;
     @Mock private QnaRepository qnaRepository;
+    @Mock private QnaSearchIndex qnaSearchIndex;
+    @Mock private QnaDetailCache qnaDetailCache;
+    @Mock private PageCountCache pageCountCache;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(sut, "maxSnippetLength", 200);
+    }
+
+    @Test
+    void getQnaDetailHidesBlindQnaFromOtherUsers() {
+        // Given
+        Long qnaId = 1L;
+        Long authorId = 10L;
+        QnaDtoWithImages qna = new QnaDtoWithImages(qnaId, "title", "content", Category.GENERAL, null, false, true,
+                new UserDto(authorId, "author", null, EProvider.KAKAO, ERole.USER, null, "author", false, null), List.of());
+        QnaWithAnswerDto detail = new QnaWithAnswerDto(qna, null, 0L, null);
+        given(qnaDetailCache.get(eq(qnaId), any())).willReturn(detail);
+
+        // When & Then
+        assertThat(sut.getQnaDetail(qnaId, authorId, false)).isEqualTo(detail);
+        assertThat(sut.getQnaDetail(qnaId, null, true)).isEqualTo(detail);
+        assertThatThrownBy(() -> sut.getQnaDetail(qnaId, 20L, false))
+                .isInstanceOf(CommonException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.BLIND_QNA);
+    }
 
     @Test
     void searchQnas() {
         // Given
         Pageable pageable = Pageable.ofSize(5);
-        given(qnaRepository.findAll(pageable)).willReturn(Page.empty(pageable));
+        QnaSearchCondition condition = QnaSearchCondition.builder().build();
+        given(qnaRepository.search(condition, 0, pageable)).willReturn(Page.empty(pageable));
 
         // When
-        Page<QnaDto> qnaDtoWithImages = sut.searchQnas(null, null, pageable);
+        Page<QnaSummaryDto> qnaDtos = sut.searchQnas(null, null, null, 0, pageable);
 
         // Then
-        assertThat(qnaDtoWithImages).isEmpty();
-        then(qnaRepository).should().findAll(pageable);
+        assertThat(qnaDtos).isEmpty();
+        then(qnaRepository).should().search(condition, 0, pageable);
     }
 
     @Test
-    void searchQnasWithKeyword() {
+    void searchQnasNotAnsweredWithKeyword() {
         // Given
         String title = "title";
         Category category = Category.ACCOUNT;
         Pageable pageable = Pageable.ofSize(5);
-        given(qnaRepository.findByTitleContainingAndCategory(title, category, pageable)).willReturn(Page.empty(pageable));
+        QnaSearchCondition condition = QnaSearchCondition.builder()
+                .title(title)
+                .category(category)
+                .isAnswer(false)
+                .build();
+        given(qnaSearchIndex.isAvailable()).willReturn(false);
+        given(qnaRepository.search(condition, 0, pageable)).willReturn(Page.empty(pageable));
 
         // When
-        Page<QnaDto> qnaDtoWithImages = sut.searchQnas(title, category, pageable);
+        Page<QnaSummaryDto> qnaDtos = sut.searchQnas(title, category, true, 0, pageable);
 
         // Then
-        assertThat(qnaDtoWithImages).isEmpty();
-        then(qnaRepository).should().findByTitleContainingAndCategory(title, category, pageable);
-
+        assertThat(qnaDtos).isEmpty();
+        then(qnaRepository).should().search(condition, 0, pageable);
     }
 
     @Test
     void searchQnasByUser() {
         // Given
         Long userId = 1L;
-        Boolean isBlind = false;
         Pageable pageable = Pageable.ofSize(5);
-        given(qnaRepository.findByUser_IdOrIsBlind(userId, isBlind, pageable)).willReturn(Page.empty(pageable));
+        QnaSearchCondition condition = QnaSearchCondition.builder().userId(userId).build();
+        given(qnaRepository.search(condition, 0, pageable)).willReturn(Page.empty(pageable));
 
         // When
-        Page<QnaDto> qnaDtoWithImages = sut.searchQnasByUser(null, userId, null, pageable);
+        Page<QnaSummaryDto> qnaDtos = sut.searchQnasByUser(null, userId, null, true, 0, pageable);
 
         // Then
-        assertThat(qnaDtoWithImages).isEmpty();
-        then(qnaRepository).should().findByUser_IdOrIsBlind(userId, isBlind, pageable);
-
+        assertThat(qnaDtos).isEmpty();
+        then(qnaRepository).should().search(condition, 0, pageable);
     }
 
     @Test
-    void searchQnasByUserWithKeyword() {
+    void searchQnasByUserWithKeywordUsesSearchIndex() {
         // Given
         Long userId = 1L;
-        String title = "title";
-        Boolean isBlind = false;
+        String title = "결제";
         Category category = Category.ACCOUNT;
-        Pageable pageable = Pageable.ofSize(5);
-        given(qnaRepository.findByUserIdAndTitleAndCategory(userId, isBlind, title, category, pageable)).willReturn(Page.empty(pageable));
+        Pageable pageable = PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "id"));
+        given(qnaSearchIndex.isAvailable()).willReturn(true);
+        given(qnaSearchIndex.supports(title)).willReturn(true);
+        given(qnaSearchIndex.search(title, false, userId, category, null, QnaSearchIndex.Order.ID_DESC, 0, 5))
+                .willReturn(new QnaSearchIndex.SearchHits(List.of(), 0));
+
+        // When
+        Page<QnaSummaryDto> qnaDtos = sut.searchQnasByUser(title, userId, category, true, 0, pageable);
+
+        // Then
+        assertThat(qnaDtos).isEmpty();
+        then(qnaSearchIndex).should().search(title, false, userId, category, null, QnaSearchIndex.Order.ID_DESC, 0, 5);
+        then(qnaRepository).should(never()).search(any(), anyInt(), any());
+    }
+
+    @Test
+    void scrollQnasReturnsNextCursorWhenMoreRows() {
+        // Given
+        QnaSearchCondition condition = QnaSearchCondition.builder().build();
+        given(qnaRepository.searchAfter(condition, 0, null, 3)).willReturn(List.of(createSummary(30L), createSummary(20L), createSummary(10L)));
+
+        // When
+        CursorPage<QnaSummaryDto> page = sut.scrollQnas(null, null, null, null, 2, false, 0);
+
+        // Then
+        assertThat(page.content()).extracting(QnaSummaryDto::id).containsExactly(30L, 20L);
+        assertThat(page.hasNext()).isTrue();
+        assertThat(CursorUtil.decode(page.nextCursor())).isEqualTo(20L);
+        assertThat(page.totalElements()).isNull();
+        then(qnaRepository).should(never()).countMatching(any());
+    }
+
+    @Test
+    void scrollQnasWithTotalUsesPageCountCache() {
+        // Given
+        QnaSearchCondition condition = QnaSearchCondition.builder().build();
+        given(qnaRepository.searchAfter(condition, 0, null, 3)).willReturn(List.of(createSummary(30L)));
+        given(pageCountCache.count(eq(PageCountCache.QNAS), isNull(), any()))
+                .willReturn(new PageCountCache.PageCount(150_000L, false));
 
         // When
-        Page<QnaDto> qnaDtoWithImages = sut.searchQnasByUser(title, userId, category, pageable);
+        CursorPage<QnaSummaryDto> page = sut.scrollQnas(null, null, null, null, 2, true, 0);
 
         // Then
-        assertThat(qnaDtoWithImages).isEmpty();
-        then(qnaRepository).should().findByUserIdAndTitleAndCategory(userId, isBlind, title, category, pageable);
+        assertThat(page.totalElements()).isEqualTo(150_000L);
+        assertThat(page.totalExact()).isFalse();
+        then(qnaRepository).should(never()).countMatching(any());
+    }
 
+    private QnaSummaryDto createSummary(Long id) {
+        return new QnaSummaryDto(id, "title", Category.GENERAL, null, false, false, 1L, "tester", "tester", null);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,94 @@
+package com.example.kakao_mlms.service;
+
+import com.example.kakao_mlms.config.JpaConfig;
+import com.example.kakao_mlms.constant.Constants;
+import com.example.kakao_mlms.domain.RefreshToken;
+import com.example.kakao_mlms.domain.type.ERole;
+import com.example.kakao_mlms.exception.CommonException;
+import com.example.kakao_mlms.repository.RefreshTokenRepository;
+import com.example.kakao_mlms.util.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+// 폐기가 실제로 커밋되는지 확인하기 위해 테스트 트랜잭션 없이 실행
+@ActiveProfiles("test")
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({JpaConfig.class, RefreshTokenService.class})
+class RefreshTokenServiceTest {
+    private static final String REFRESH_TOKEN = "used-refresh-token";
+    private static final String TOKEN_ID = "00000000-0000-0000-0000-000000000001";
+    private static final String NEXT_TOKEN_ID = "00000000-0000-0000-0000-000000000002";
+    private static final String FAMILY_ID = "00000000-0000-0000-0000-00000000000f";
+
+    @Autowired private RefreshTokenService sut;
+    @Autowired private RefreshTokenRepository refreshTokenRepository;
+    @Autowired private PlatformTransactionManager transactionManager;
+    @MockBean private JwtUtil jwtUtil;
+
+    @AfterEach
+    void tearDown() {
+        refreshTokenRepository.deleteAll();
+    }
+
+    @Test
+    void reuseAfterGraceRevokesFamily() throws Exception {
+        // Given : 1시간 전에 이미 재발급에 사용된 토큰과 그 뒤를 이은 토큰
+        refreshTokenRepository.save(createToken(TOKEN_ID, hash(REFRESH_TOKEN)));
+        refreshTokenRepository.save(createToken(NEXT_TOKEN_ID, hash("next-refresh-token")));
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                refreshTokenRepository.markRotated(TOKEN_ID, LocalDateTime.now().minusHours(1)));
+
+        Claims claims = Jwts.claims();
+        claims.setId(TOKEN_ID);
+        claims.put(Constants.TOKEN_TYPE_CLAIM_NAME, Constants.REFRESH_TOKEN_TYPE);
+        claims.put(Constants.USER_ID_CLAIM_NAME, "1");
+        claims.put(Constants.USER_ROLE_CLAIM_NAME, ERole.USER.toString());
+        given(jwtUtil.validateToken(REFRESH_TOKEN)).willReturn(claims);
+
+        // When : AuthService.reissue 처럼 바깥 트랜잭션 안에서 호출
+        assertThatThrownBy(() -> new TransactionTemplate(transactionManager)
+                .executeWithoutResult(status -> sut.reissue(REFRESH_TOKEN)))
+                .isInstanceOf(CommonException.class);
+
+        // Then
+        assertThat(refreshTokenRepository.findAll())
+                .hasSize(2)
+                .allMatch(RefreshToken::getRevoked);
+    }
+
+    private RefreshToken createToken(String id, String tokenHash) {
+        return RefreshToken.builder()
+                .id(id)
+                .familyId(FAMILY_ID)
+                .userId(1L)
+                .role(ERole.USER)
+                .tokenHash(tokenHash)
+                .expiresAt(LocalDateTime.now().plusDays(1))
+                .build();
+    }
+
+    private static String hash(String token) throws Exception {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8)));
+    }
+}
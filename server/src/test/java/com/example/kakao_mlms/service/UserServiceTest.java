@@ -1,5 +1,8 @@
 package com.example.kakao_mlms.service;
 
+import com.example.kakao_mlms.cache.PageCountCache;
+import com.example.kakao_mlms.domain.User;
+import com.example.kakao_mlms.dto.CountedPage;
 import com.example.kakao_mlms.dto.UserDto;
 import com.example.kakao_mlms.repository.UserRepository;
 import org.junit.jupiter.api.Test;
@@ -10,6 +13,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collections;
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
 
@@ -18,20 +24,21 @@ class UserServiceTest {
 
     @InjectMocks private UserService sut;
     @Mock private UserRepository userRepository;
+    @Mock private PageCountCache pageCountCache;
 
     @Test
     void searchUsers() {
         // Given
         Pageable pageable = Pageable.ofSize(10);
-        given(userRepository.findAll(pageable)).willReturn(Page.empty());
+        given(userRepository.findAllBy(pageable)).willReturn(List.of());
 
         // When
         Page<UserDto> userDtos = sut.searchUsers(null, pageable);
 
         // Then
         assertThat(userDtos).isEmpty();
-        then(userRepository).should().findAll(pageable);
-
+        then(userRepository).should().findAllBy(pageable);
+        then(pageCountCache).shouldHaveNoInteractions();
     }
 
     @Test
@@ -39,13 +46,30 @@ class UserServiceTest {
         // Given
         Pageable pageable = Pageable.ofSize(10);
         String nickname = "nickname";
-        given(userRepository.findByNicknameContaining(nickname, pageable)).willReturn(Page.empty());
+        given(userRepository.findByNicknameContainingIgnoreCase(nickname, pageable)).willReturn(List.of());
 
         // When
         Page<UserDto> userDtos = sut.searchUsers(nickname, pageable);
 
         // Then
         assertThat(userDtos).isEmpty();
-        then(userRepository).should().findByNicknameContaining(nickname, pageable);
+        then(userRepository).should().findByNicknameContainingIgnoreCase(nickname, pageable);
+    }
+
+    @Test
+    void searchUsersUsesCachedCountWhenPageIsFull() {
+        // Given
+        Pageable pageable = Pageable.ofSize(2);
+        given(userRepository.findAllBy(pageable)).willReturn(Collections.nCopies(2, User.builder().serialId("tester").build()));
+        given(pageCountCache.count(eq(PageCountCache.USERS), isNull(), any()))
+                .willReturn(new PageCountCache.PageCount(100L, false));
+
+        // When
+        Page<UserDto> userDtos = sut.searchUsers(null, pageable);
+
+        // Then
+        assertThat(userDtos.getTotalElements()).isEqualTo(100L);
+        assertThat(((CountedPage<UserDto>) userDtos).isTotalExact()).isFalse();
+        then(userRepository).should(never()).count();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,34 @@
+package com.example.kakao_mlms.util;
+
+import com.example.kakao_mlms.exception.CommonException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CursorUtilTest {
+    @Test
+    void encodeAndDecode() {
+        // Given
+        String cursor = CursorUtil.encode(12345L);
+
+        // When
+        Long lastId = CursorUtil.decode(cursor);
+
+        // Then
+        assertThat(cursor).doesNotContain("12345");
+        assertThat(lastId).isEqualTo(12345L);
+    }
+
+    @Test
+    void blankCursorIsFirstPage() {
+        assertThat(CursorUtil.decode(null)).isNull();
+        assertThat(CursorUtil.decode("")).isNull();
+    }
+
+    @Test
+    void invalidCursorThrows() {
+        assertThatThrownBy(() -> CursorUtil.decode("not-a-cursor")).isInstanceOf(CommonException.class);
+        assertThatThrownBy(() -> CursorUtil.decode(CursorUtil.encode(1L) + "x")).isInstanceOf(CommonException.class);
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.kakao_mlms.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FileSenderTest {
+    @TempDir
+    Path tempDir;
+
+    private final FileSender sut = new FileSender(365);
+    private Path file;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        file = Files.writeString(tempDir.resolve("0b7e6a55-8f0c-4d6e-9a51-3c2f1e9d4b7a.png"), "0123456789");
+    }
+
+    @Test
+    void sendWholeFileWithCacheHeaders() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/image");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        sut.send(file, request, response);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentType()).isEqualTo("image/png");
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).contains("max-age=31536000", "immutable");
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo("\"" + file.getFileName() + "\"");
+        assertThat(response.getHeader(HttpHeaders.LAST_MODIFIED)).isNotNull();
+        assertThat(response.getContentAsString(StandardCharsets.UTF_8)).isEqualTo("0123456789");
+    }
+
+    @Test
+    void sendSingleRange() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/image");
+        request.addHeader(HttpHeaders.RANGE, "bytes=2-5");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        sut.send(file, request, response);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 2-5/10");
+        assertThat(response.getContentLengthLong()).isEqualTo(4);
+        assertThat(response.getContentAsString(StandardCharsets.UTF_8)).isEqualTo("2345");
+    }
+
+    @Test
+    void unsatisfiableRangeIs416() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/image");
+        request.addHeader(HttpHeaders.RANGE, "bytes=100-");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        sut.send(file, request, response);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(416);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */10");
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    void malformedRangeIsIgnored() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/image");
+        request.addHeader(HttpHeaders.RANGE, "bytes=abc");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        sut.send(file, request, response);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isNull();
+        assertThat(response.getContentAsString(StandardCharsets.UTF_8)).isEqualTo("0123456789");
+    }
+
+    @Test
+    void matchingETagIsNotModified() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/image");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"" + file.getFileName() + "\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        sut.send(file, request, response);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.kakao_mlms.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GeoHashUtilTest {
+
+    @Test
+    void encodesKnownCoordinate() {
+        // When & Then
+        assertThat(GeoHashUtil.encode(57.64911, 10.40744, 11)).isEqualTo("u4pruydqqvj");
+    }
+
+    @Test
+    void nearbyCoordinatesShareCell() {
+        // Given
+        String pangyo = GeoHashUtil.encode(37.3948, 127.1112, 6);
+        String nearby = GeoHashUtil.encode(37.3951, 127.1115, 6);
+        String gangnam = GeoHashUtil.encode(37.4979, 127.0276, 6);
+
+        // When & Then
+        assertThat(nearby).isEqualTo(pangyo);
+        assertThat(gangnam).isNotEqualTo(pangyo);
+    }
+
+    @Test
+    void rejectsInvalidPrecision() {
+        // When & Then
+        assertThatThrownBy(() -> GeoHashUtil.encode(0, 0, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.kakao_mlms.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+    private final SingleFlight<String, String> sut = new SingleFlight<>();
+
+    @Test
+    void concurrentCallsShareOneExecution() throws Exception {
+        // Given
+        int callers = 8;
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+
+        // When
+        List<Future<String>> results = new ArrayList<>();
+        results.add(executor.submit(() -> sut.execute("key", () -> {
+            executions.incrementAndGet();
+            started.countDown();
+            await(release);
+            return "value";
+        })));
+        started.await(1, TimeUnit.SECONDS);
+        for (int i = 1; i < callers; i++) {
+            results.add(executor.submit(() -> sut.execute("key", () -> {
+                executions.incrementAndGet();
+                return "other";
+            })));
+        }
+        while (sut.coalescedCount() < callers - 1) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        // Then
+        for (Future<String> result : results) {
+            assertThat(result.get(1, TimeUnit.SECONDS)).isEqualTo("value");
+        }
+        assertThat(executions.get()).isEqualTo(1);
+        executor.shutdown();
+    }
+
+    @Test
+    void runsAgainAfterCompletion() {
+        // Given
+        AtomicInteger executions = new AtomicInteger();
+
+        // When
+        sut.execute("key", () -> String.valueOf(executions.incrementAndGet()));
+        sut.execute("key", () -> String.valueOf(executions.incrementAndGet()));
+
+        // Then
+        assertThat(executions.get()).isEqualTo(2);
+    }
+
+    @Test
+    void propagatesFailure() {
+        // When & Then
+        assertThatThrownBy(() -> sut.execute("key", () -> {
+            throw new IllegalStateException("fail");
+        })).isInstanceOf(IllegalStateException.class);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}